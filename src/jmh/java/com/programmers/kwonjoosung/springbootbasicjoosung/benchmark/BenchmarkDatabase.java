@@ -0,0 +1,52 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트와 같은 schema.sql로 trial마다 새 H2 메모리 DB를 만든다.
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    static EmbeddedDatabase create() {
+        return new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("schema.sql")
+                .build();
+    }
+
+    static NamedParameterJdbcTemplate jdbcTemplate(EmbeddedDatabase database) {
+        return new NamedParameterJdbcTemplate(new JdbcTemplate(database));
+    }
+
+    // EmbeddedDatabase는 호출마다 새 H2 세션을 연다. 운영처럼 HikariCP로 커넥션을 재사용해 저장소 자체 비용만 보이게 한다.
+    static HikariDataSource pooled(EmbeddedDatabase database, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDataSource(database);
+        dataSource.setMaximumPoolSize(poolSize);
+        return dataSource;
+    }
+
+    // FIXED와 PERCENT를 번갈아 섞은 데이터셋
+    static List<Voucher> vouchers(int size) {
+        List<Voucher> vouchers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            vouchers.add(i % 2 == 0
+                    ? VoucherFactory.createVoucher(VoucherType.FIXED, 1000 + i % 1000)
+                    : VoucherFactory.createVoucher(VoucherType.PERCENT, 1 + i % 99));
+        }
+        return vouchers;
+    }
+}
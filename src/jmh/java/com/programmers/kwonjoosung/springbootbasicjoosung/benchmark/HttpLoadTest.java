@@ -0,0 +1,103 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/* 실행 중인 서버에 대한 closed-loop HTTP 부하 테스트 (JMH 아님)
+ * clients 명의 사용자가 응답을 받자마자 다음 요청을 보내고, 워밍업 뒤 측정 구간의 처리량과 지연 분위수를 출력한다.
+ * 사용법: mvn -Pjmh test-compile exec:exec -Djmh.main=com.programmers.kwonjoosung.springbootbasicjoosung.benchmark.HttpLoadTest \
+ *           -Djmh.args="<url> <clients> <seconds> [warmupSeconds]"
+ */
+public final class HttpLoadTest {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final CountDownLatch stopped;
+    private volatile boolean running = true;
+    private volatile boolean measuring = false;
+
+    private HttpLoadTest(HttpClient client, HttpRequest request, int clients) {
+        this.client = client;
+        this.request = request;
+        this.stopped = new CountDownLatch(clients);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        URI uri = URI.create(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        int seconds = Integer.parseInt(args[2]);
+        int warmupSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        ExecutorService callbackExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbackExecutor)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        new HttpLoadTest(client, request, clients).run(clients, seconds, warmupSeconds);
+        callbackExecutor.shutdownNow();
+    }
+
+    private void run(int clients, int seconds, int warmupSeconds) throws InterruptedException {
+        for (int i = 0; i < clients; i++) {
+            sendNext();
+        }
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorder.reset();
+        succeeded.set(0);
+        failed.set(0);
+        measuring = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(seconds);
+        measuring = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        Histogram histogram = recorder.getIntervalHistogram();
+        running = false;
+        stopped.await(30, TimeUnit.SECONDS);
+        System.out.printf("url=%s clients=%d seconds=%d%n", request.uri(), clients, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                succeeded.get(), failed.get(), succeeded.get() / elapsedSeconds);
+        System.out.printf("latency ms p50=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private void sendNext() {
+        if (!running) {
+            stopped.countDown();
+            return;
+        }
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (measuring) {
+                if (error == null && response.statusCode() < 400) {
+                    succeeded.incrementAndGet();
+                    recorder.recordValue(Math.min(System.nanoTime() - start, MAX_LATENCY_NANOS));
+                } else {
+                    failed.incrementAndGet();
+                }
+            }
+            sendNext();
+        });
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,113 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.JdbcCustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.MemoryCustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.JdbcWalletRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.MemoryWalletRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.WalletRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 지갑 바우처 하나에 redeemers 개의 요청이 동시에 몰릴 때 모두 끝날 때까지의 시간 (1 op = 한 번의 몰림)
+// 매번 REDEEMED가 정확히 1건인지 확인하고, 아니면 예외로 측정을 멈춘다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedeemContentionBenchmark {
+
+    @Param({"jdbc", "memory"})
+    private String backend;
+
+    @Param({"100", "500"})
+    private int redeemers;
+
+    private EmbeddedDatabase database;
+    private CustomerRepository customerRepository;
+    private VoucherRepository voucherRepository;
+    private WalletRepository walletRepository;
+    private ExecutorService executor;
+    private UUID customerId;
+    private UUID voucherId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (backend.equals("jdbc")) {
+            database = BenchmarkDatabase.create();
+            NamedParameterJdbcTemplate jdbcTemplate = BenchmarkDatabase.jdbcTemplate(database);
+            customerRepository = new JdbcCustomerRepository(jdbcTemplate);
+            voucherRepository = new JdbcVoucherRepository(jdbcTemplate);
+            walletRepository = new JdbcWalletRepository(jdbcTemplate);
+        } else {
+            MemoryCustomerRepository memoryCustomerRepository = new MemoryCustomerRepository();
+            MemoryVoucherRepository memoryVoucherRepository = new MemoryVoucherRepository();
+            customerRepository = memoryCustomerRepository;
+            voucherRepository = memoryVoucherRepository;
+            walletRepository = new MemoryWalletRepository(memoryCustomerRepository, memoryVoucherRepository);
+        }
+        executor = Executors.newFixedThreadPool(redeemers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+
+    // 매 op마다 아직 사용하지 않은 지갑 바우처를 새로 만든다.
+    @Setup(Level.Invocation)
+    public void assignVoucher() {
+        Customer customer = customerRepository.insert(new Customer(UUID.randomUUID(), "redeemer"));
+        Voucher voucher = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        walletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        customerId = customer.getCustomerId();
+        voucherId = voucher.getVoucherId();
+    }
+
+    @Benchmark
+    public int redeemSameVoucher() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RedeemResult>> results = new ArrayList<>(redeemers);
+        for (int i = 0; i < redeemers; i++) {
+            String idempotencyKey = "order-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return walletRepository.redeem(customerId, voucherId, idempotencyKey);
+            }));
+        }
+        start.countDown();
+        int redeemed = 0;
+        for (Future<RedeemResult> result : results) {
+            if (result.get() == RedeemResult.REDEEMED) {
+                redeemed++;
+            }
+        }
+        if (redeemed != 1) {
+            throw new IllegalStateException("voucher " + voucherId + " was redeemed " + redeemed + " times");
+        }
+        return redeemed;
+    }
+}
@@ -0,0 +1,62 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// voucherRowMapper로 전체 테이블을 읽는 비용 (List로 모으기 vs 한 행씩 흘려보내기)
+// 처리량(rows/s)은 size / Score로 계산한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    // voucherRowMapper가 읽는 컬럼이 바뀌어도 벤치마크 SQL이 따라가도록 VoucherTable에서 가져온다.
+    private static final String SELECT_ALL = "SELECT " + VoucherTable.COLUMNS + " FROM vouchers";
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private EmbeddedDatabase database;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        new JdbcVoucherRepository(BenchmarkDatabase.jdbcTemplate(database)).insertAll(BenchmarkDatabase.vouchers(size));
+        // 커넥션 1개를 재사용하고, H2가 큰 결과를 임시 파일로 내리지 않고 테이블에서 바로 흘려보내게 한다.
+        dataSource = BenchmarkDatabase.pooled(database, 1);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("SET LAZY_QUERY_EXECUTION TRUE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Voucher> mapToList() {
+        return jdbcTemplate.query(SELECT_ALL, JdbcVoucherRepository.voucherRowMapper);
+    }
+
+    @Benchmark
+    public void mapEachRow(Blackhole blackhole) {
+        jdbcTemplate.query(SELECT_ALL,
+                (RowCallbackHandler) rs -> blackhole.consume(JdbcVoucherRepository.voucherRowMapper.mapRow(rs, 0)));
+    }
+}
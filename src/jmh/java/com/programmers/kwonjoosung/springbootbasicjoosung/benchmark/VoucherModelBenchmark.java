@@ -0,0 +1,34 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 행 매핑마다 호출되는 VoucherType.of와 VoucherFactory.createVoucher 단독 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoucherModelBenchmark {
+
+    @Param({"FIXED", "percent"})
+    private String voucherType;
+
+    private final UUID voucherId = UUID.randomUUID();
+
+    @Benchmark
+    public VoucherType voucherTypeOf() {
+        return VoucherType.of(voucherType);
+    }
+
+    @Benchmark
+    public Voucher createVoucher() {
+        return VoucherFactory.createVoucher(VoucherType.of(voucherType), voucherId, 10);
+    }
+}
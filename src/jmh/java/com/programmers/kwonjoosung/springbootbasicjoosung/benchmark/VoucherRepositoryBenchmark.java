@@ -0,0 +1,96 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 같은 데이터셋에서 H2(JDBC) 저장소와 메모리 저장소의 주요 연산 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoucherRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"jdbc", "memory"})
+    private String backend;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private EmbeddedDatabase database;
+    private HikariDataSource dataSource;
+    private VoucherRepository voucherRepository;
+    private UUID[] voucherIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (backend.equals("jdbc")) {
+            database = BenchmarkDatabase.create();
+            dataSource = BenchmarkDatabase.pooled(database, 1);
+            voucherRepository = new JdbcVoucherRepository(new NamedParameterJdbcTemplate(dataSource));
+        } else {
+            voucherRepository = new MemoryVoucherRepository();
+        }
+        List<Voucher> vouchers = BenchmarkDatabase.vouchers(size);
+        voucherRepository.insertAll(vouchers);
+        voucherIds = vouchers.stream().map(Voucher::getVoucherId).toArray(UUID[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (database != null) {
+            dataSource.close();
+            database.shutdown();
+        }
+    }
+
+    private UUID randomVoucherId() {
+        return voucherIds[ThreadLocalRandom.current().nextInt(voucherIds.length)];
+    }
+
+    @Benchmark
+    public Optional<Voucher> findById() {
+        return voucherRepository.findById(randomVoucherId());
+    }
+
+    // 없는 id 조회 (캐시 프록시 없이 만든 저장소라서 매번 DB까지 간다)
+    @Benchmark
+    public Optional<Voucher> findByMissingId() {
+        return voucherRepository.findById(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public List<Voucher> findPage() {
+        return voucherRepository.findPage(randomVoucherId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Voucher> findByType() {
+        return voucherRepository.findByType(VoucherType.PERCENT);
+    }
+
+    // 데이터셋 크기가 유지되도록 넣은 바우처를 바로 지운다.
+    @Benchmark
+    public Voucher insertAndDelete() {
+        Voucher voucher = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        voucherRepository.deleteById(voucher.getVoucherId());
+        return voucher;
+    }
+}
@@ -0,0 +1,106 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.benchmark;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.JdbcWalletRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/* 지갑 row가 많을 때 voucher_id로 조회/삭제하는 비용
+ * voucherIndex=false 는 인덱스 추가 전과 같이 (customer_id, voucher_id) PK만 있는 wallets 테이블이다.
+ * (FK도 제거해야 DB가 voucher_id 인덱스를 자동으로 만들지 않는다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class WalletLookupBenchmark {
+
+    private static final int VOUCHERS_PER_CUSTOMER = 10;
+    private static final int CHUNK_SIZE = 10_000;
+    private static final String PRIMARY_KEY_ONLY_WALLETS = """
+            CREATE TABLE wallets
+            (
+                customer_id varchar(255) not null,
+                voucher_id varchar(255) not null,
+                PRIMARY KEY(customer_id, voucher_id)
+            )""";
+
+    @Param({"1000000"})
+    private int walletRows;
+
+    @Param({"true", "false"})
+    private boolean voucherIndex;
+
+    private EmbeddedDatabase database;
+    private JdbcWalletRepository walletRepository;
+    private UUID[] customerIds;
+    private UUID[] voucherIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.create();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        if (!voucherIndex) {
+            jdbcTemplate.execute("DROP TABLE wallets");
+            jdbcTemplate.execute(PRIMARY_KEY_ONLY_WALLETS);
+        }
+        JdbcVoucherRepository voucherRepository = new JdbcVoucherRepository(BenchmarkDatabase.jdbcTemplate(database));
+        walletRepository = new JdbcWalletRepository(BenchmarkDatabase.jdbcTemplate(database));
+        customerIds = new UUID[walletRows / VOUCHERS_PER_CUSTOMER];
+        voucherIds = new UUID[walletRows];
+
+        List<Object[]> customerRows = new ArrayList<>(customerIds.length);
+        for (int i = 0; i < customerIds.length; i++) {
+            Customer customer = new Customer("customer" + i);
+            customerIds[i] = customer.getCustomerId();
+            customerRows.add(new Object[]{customer.getCustomerId().toString(), customer.getName()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customers (customer_id, name) VALUES (?, ?)", customerRows);
+
+        for (int from = 0; from < walletRows; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, walletRows);
+            List<Voucher> vouchers = BenchmarkDatabase.vouchers(to - from);
+            voucherRepository.insertAll(vouchers);
+            List<Object[]> walletChunk = new ArrayList<>(vouchers.size());
+            for (int i = from; i < to; i++) {
+                voucherIds[i] = vouchers.get(i - from).getVoucherId();
+                walletChunk.add(new Object[]{customerIds[i / VOUCHERS_PER_CUSTOMER].toString(), voucherIds[i].toString()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO wallets (customer_id, voucher_id) VALUES (?, ?)", walletChunk);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Customer findCustomerByVoucherId() {
+        return walletRepository.findCustomerByVoucherId(voucherIds[ThreadLocalRandom.current().nextInt(walletRows)]);
+    }
+
+    @Benchmark
+    public List<Voucher> findVouchersByCustomerId() {
+        return walletRepository.findVouchersByCustomerId(customerIds[ThreadLocalRandom.current().nextInt(customerIds.length)]);
+    }
+
+    // 지운 바우처를 같은 고객에게 다시 넣어 row 수를 유지한다.
+    @Benchmark
+    public void deleteVoucherAndReinsert() {
+        int index = ThreadLocalRandom.current().nextInt(walletRows);
+        walletRepository.deleteVoucher(voucherIds[index]);
+        walletRepository.insertToWallet(customerIds[index / VOUCHERS_PER_CUSTOMER], voucherIds[index]);
+    }
+}
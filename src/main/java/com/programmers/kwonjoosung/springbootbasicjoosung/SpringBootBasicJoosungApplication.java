@@ -2,9 +2,11 @@ package com.programmers.kwonjoosung.springbootbasicjoosung;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SpringBootBasicJoosungApplication {
     public static void main(String[] args) {
         SpringApplication.run(SpringBootBasicJoosungApplication.class, args);
@@ -0,0 +1,140 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.aop;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 서비스와 저장소의 모든 public 메서드 호출을 측정한다.
+ * - app.service / app.repository : 호출 지연 시간 (tag: class, method, exception)
+ * - app.repository.rows : 컬렉션을 반환하는 조회의 row 수
+ * - app.errors : DataNotExistException, DataAlreadyExistException 발생 횟수 (tag: layer로 중복 집계 구분)
+ * - Mono/Flux를 반환하면 (reactive 프로필) 구독해서 끝날 때까지의 시간을 기록한다.
+ * 히스토그램/백분위수 설정은 application.yml의 management.metrics.distribution에서 한다.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private static final String SERVICE = "service";
+    private static final String REPOSITORY = "repository";
+    private static final String NONE = "none";
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.programmers.kwonjoosung.springbootbasicjoosung.service..*Service) && execution(public * *(..))")
+    public Object measureService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, SERVICE);
+    }
+
+    @Around("within(com.programmers.kwonjoosung.springbootbasicjoosung.repository..*Repository) && execution(public * *(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, REPOSITORY);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        MethodMeters meters = metersOf(joinPoint, layer);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            meters.record(sample, e);
+            throw e;
+        }
+        // Mono/Flux는 반환 시점에 아직 실행 전이므로 구독부터 완료(또는 에러)까지를 잰다. (취소된 구독은 기록하지 않는다)
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono.doOnSuccess(value -> meters.record(subscribed, null))
+                        .doOnError(e -> meters.record(subscribed, e));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return flux.doOnComplete(() -> meters.record(subscribed, null))
+                        .doOnError(e -> meters.record(subscribed, e));
+            });
+        }
+        if (layer.equals(REPOSITORY) && result instanceof Collection<?> rows) {
+            meters.rows().record(rows.size());
+        }
+        meters.record(sample, null);
+        return result;
+    }
+
+    // 같은 인터페이스 메서드라도 구현 클래스마다 class 태그가 다르므로 (구현 클래스, 메서드)로 찾는다.
+    private MethodMeters metersOf(ProceedingJoinPoint joinPoint, String layer) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return meters.computeIfAbsent(new MeterKey(joinPoint.getTarget().getClass(), method),
+                key -> new MethodMeters(layer, key.targetClass().getSimpleName(), key.method().getName()));
+    }
+
+    private record MeterKey(Class<?> targetClass, Method method) {
+    }
+
+    // 메서드마다 한 번만 builder로 등록해 두고, 호출마다 registry를 다시 조회하지 않는다.
+    private final class MethodMeters {
+
+        private final String layer;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+        private volatile DistributionSummary rows; // 컬렉션을 반환하는 조회에서만 등록한다.
+
+        private MethodMeters(String layer, String className, String methodName) {
+            this.layer = layer;
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer(NONE);
+        }
+
+        private void record(Timer.Sample sample, Throwable error) {
+            if (error == null) {
+                sample.stop(success);
+                return;
+            }
+            if (error instanceof DataNotExistException || error instanceof DataAlreadyExistException) {
+                errors.computeIfAbsent(error.getClass(), type -> meterRegistry.counter("app.errors", "layer", layer,
+                        "class", className, "method", methodName, "exception", type.getSimpleName())).increment();
+            }
+            sample.stop(failures.computeIfAbsent(error.getClass(), type -> timer(type.getSimpleName())));
+        }
+
+        private DistributionSummary rows() {
+            if (rows == null) {
+                rows = DistributionSummary.builder("app.repository.rows")
+                        .tags("class", className, "method", methodName)
+                        .register(meterRegistry);
+            }
+            return rows;
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder("app." + layer)
+                    .tags("class", className, "method", methodName, "exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
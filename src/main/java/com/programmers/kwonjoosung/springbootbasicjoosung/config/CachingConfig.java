@@ -0,0 +1,12 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CachingConfig {
+
+    public static final String VOUCHER_CACHE = "voucher";
+
+}
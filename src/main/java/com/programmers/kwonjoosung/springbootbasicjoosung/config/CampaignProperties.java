@@ -0,0 +1,55 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "campaign")
+public class CampaignProperties {
+
+    private int poolSize = 2; // 동시에 실행되는 캠페인 수
+    private int queueCapacity = 16; // 대기할 수 있는 캠페인 수, 넘으면 요청을 거절한다.
+    private int batchSize = 1000;
+    private long maxCount = 1_000_000L; // 캠페인 한 번에 발급할 수 있는 최대 바우처 수
+    private Duration finishedJobRetention = Duration.ofHours(1); // 끝난 캠페인의 상태를 조회할 수 있는 기간
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    public void setMaxCount(long maxCount) {
+        this.maxCount = maxCount;
+    }
+
+    public Duration getFinishedJobRetention() {
+        return finishedJobRetention;
+    }
+
+    public void setFinishedJobRetention(Duration finishedJobRetention) {
+        this.finishedJobRetention = finishedJobRetention;
+    }
+}
@@ -0,0 +1,104 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/* 애플리케이션 DataSource 빈(dataSource: 자동 설정, ReactiveConfig)에 datasource.tuning 설정을 적용한다.
+ * 벤치마크, 테스트가 직접 만든 HikariDataSource는 건드리지 않는다.
+ * spring.datasource.hikari.* 바인딩이 끝난 뒤(after initialization), 첫 커넥션을 얻어 풀이 시작되기 전에 적용된다.
+ * 값을 적은 항목만 적용하고, 같은 항목을 spring.datasource.hikari.*에도 적었으면 어느 쪽이 이기는지 헷갈리지 않게 시작을 막는다.
+ * PreparedStatement 캐시와 batch rewrite는 MySQL 드라이버 설정이라 jdbc:mysql URL일 때만 넣는다. (H2는 모르는 설정이면 연결을 거절한다)
+ * 풀 지표는 actuator가 hikaricp.connections.active/idle/pending/acquire/usage/timeout 으로 등록한다.
+ */
+@Configuration
+public class DataSourceTuningConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari.";
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+
+    @Bean
+    public static BeanPostProcessor hikariTuningPostProcessor(ObjectProvider<DataSourceTuningProperties> properties,
+                                                              Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof HikariDataSource dataSource) {
+                    DataSourceTuningProperties tuning = properties.getObject();
+                    checkConflicts(Binder.get(environment), tuning);
+                    apply(dataSource, tuning);
+                }
+                return bean;
+            }
+        };
+    }
+
+    public static void apply(HikariDataSource dataSource, DataSourceTuningProperties properties) {
+        ifSet(properties.getMaximumPoolSize(), dataSource::setMaximumPoolSize);
+        ifSet(properties.getMinimumIdle(), dataSource::setMinimumIdle);
+        ifSet(properties.getConnectionTimeout(), timeout -> dataSource.setConnectionTimeout(timeout.toMillis()));
+        ifSet(properties.getMaxLifetime(), lifetime -> dataSource.setMaxLifetime(lifetime.toMillis()));
+        ifSet(properties.getLeakDetectionThreshold(), threshold -> dataSource.setLeakDetectionThreshold(threshold.toMillis()));
+        if (dataSource.getJdbcUrl() == null || !dataSource.getJdbcUrl().startsWith(MYSQL_URL_PREFIX)) {
+            return;
+        }
+        driverProperties(properties).forEach(dataSource::addDataSourceProperty);
+    }
+
+    // spring.datasource.hikari.* 이름 -> datasource.tuning 값
+    private static Map<String, Object> poolProperties(DataSourceTuningProperties properties) {
+        Map<String, Object> poolProperties = new LinkedHashMap<>();
+        poolProperties.put("maximum-pool-size", properties.getMaximumPoolSize());
+        poolProperties.put("minimum-idle", properties.getMinimumIdle());
+        poolProperties.put("connection-timeout", properties.getConnectionTimeout());
+        poolProperties.put("max-lifetime", properties.getMaxLifetime());
+        poolProperties.put("leak-detection-threshold", properties.getLeakDetectionThreshold());
+        return poolProperties;
+    }
+
+    // 적은 항목만 Connector/J 속성 이름으로 (값은 문자열)
+    private static Map<String, String> driverProperties(DataSourceTuningProperties properties) {
+        DataSourceTuningProperties.StatementCache statementCache = properties.getStatementCache();
+        Map<String, String> driverProperties = new LinkedHashMap<>();
+        ifSet(statementCache.getEnabled(), enabled -> driverProperties.put("cachePrepStmts", String.valueOf(enabled)));
+        ifSet(statementCache.getSize(), size -> driverProperties.put("prepStmtCacheSize", String.valueOf(size)));
+        ifSet(statementCache.getSqlLimit(), limit -> driverProperties.put("prepStmtCacheSqlLimit", String.valueOf(limit)));
+        ifSet(statementCache.getServerSide(), serverSide -> driverProperties.put("useServerPrepStmts", String.valueOf(serverSide)));
+        ifSet(properties.getRewriteBatchedStatements(), rewrite -> driverProperties.put("rewriteBatchedStatements", String.valueOf(rewrite)));
+        return driverProperties;
+    }
+
+    private static void checkConflicts(Binder binder, DataSourceTuningProperties properties) {
+        poolProperties(properties).forEach((name, value) -> {
+            if (value != null && binder.bind(HIKARI_PREFIX + name, String.class).isBound()) {
+                throw new IllegalStateException("Set either datasource.tuning." + name + " or " + HIKARI_PREFIX + name + ", not both");
+            }
+        });
+        Map<String, String> hikariDriverProperties = binder
+                .bind(HIKARI_PREFIX + "data-source-properties", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        driverProperties(properties).keySet().stream()
+                .filter(hikariDriverProperties::containsKey)
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new IllegalStateException("Driver property " + name
+                            + " is set in both datasource.tuning and " + HIKARI_PREFIX + "data-source-properties");
+                });
+    }
+
+    private static <T> void ifSet(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// HikariDataSource에 적용할 풀/드라이버 설정 (DataSourceTuningConfig)
+// 값을 적은 항목만 적용하고(null이면 Hikari 설정 그대로), 같은 항목을 spring.datasource.hikari.*에도 적으면 시작할 때 실패한다.
+@ConfigurationProperties(prefix = "datasource.tuning")
+public class DataSourceTuningProperties {
+
+    private Integer maximumPoolSize; // DB가 동시에 처리할 수 있는 만큼만 (보통 DB 코어 수 * 2 근처)
+    private Integer minimumIdle; // maximumPoolSize와 같으면 고정 크기 풀 (트래픽이 몰릴 때 새 연결을 만들지 않는다)
+    private Duration connectionTimeout; // 커넥션을 기다리다 넘으면 요청 실패
+    private Duration maxLifetime; // DB의 wait_timeout보다 짧게
+    private Duration leakDetectionThreshold; // 커넥션을 이 시간 넘게 쥐고 있으면 경고, 0이면 끔
+    private Boolean rewriteBatchedStatements; // batchUpdate를 multi-row INSERT 한 번으로 보낸다.
+    private final StatementCache statementCache = new StatementCache();
+
+    // MySQL Connector/J의 PreparedStatement 캐시 (커넥션마다 따로 가진다)
+    public static class StatementCache {
+
+        private Boolean enabled; // cachePrepStmts
+        private Integer size; // prepStmtCacheSize, 커넥션 하나가 캐시할 SQL 수
+        private Integer sqlLimit; // prepStmtCacheSqlLimit, 이보다 긴 SQL은 캐시하지 않는다.
+        private Boolean serverSide; // useServerPrepStmts, 서버에서 한 번만 파싱하고 바이너리 프로토콜로 실행
+
+        public Boolean getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getSize() {
+            return size;
+        }
+
+        public void setSize(Integer size) {
+            this.size = size;
+        }
+
+        public Integer getSqlLimit() {
+            return sqlLimit;
+        }
+
+        public void setSqlLimit(Integer sqlLimit) {
+            this.sqlLimit = sqlLimit;
+        }
+
+        public Boolean getServerSide() {
+            return serverSide;
+        }
+
+        public void setServerSide(Boolean serverSide) {
+            this.serverSide = serverSide;
+        }
+    }
+
+    public Integer getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public Integer getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public void setMinimumIdle(Integer minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    public void setMaxLifetime(Duration maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    public Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    public Boolean getRewriteBatchedStatements() {
+        return rewriteBatchedStatements;
+    }
+
+    public void setRewriteBatchedStatements(Boolean rewriteBatchedStatements) {
+        this.rewriteBatchedStatements = rewriteBatchedStatements;
+    }
+
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
+}
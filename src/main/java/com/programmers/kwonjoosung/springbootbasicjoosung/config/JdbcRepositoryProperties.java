@@ -0,0 +1,36 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "repository.jdbc")
+public class JdbcRepositoryProperties {
+
+    private int batchSize = 1000; // batchUpdate 한 번에 보낼 최대 row 수
+    private int fetchSize = 1000; // 스트리밍 조회 시 한 번에 가져올 row 수
+    private UuidStorage uuidStorage = UuidStorage.VARCHAR; // id 컬럼이 BINARY(16)이면 BINARY
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public UuidStorage getUuidStorage() {
+        return uuidStorage;
+    }
+
+    public void setUuidStorage(UuidStorage uuidStorage) {
+        this.uuidStorage = uuidStorage;
+    }
+}
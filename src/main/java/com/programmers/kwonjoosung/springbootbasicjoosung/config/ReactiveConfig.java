@@ -0,0 +1,31 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/* reactive 프로필 설정
+ * - Tomcat도 classpath에 있어서 그대로 두면 Spring Boot가 Tomcat을 reactive 서버로 고르기 때문에 Netty를 직접 지정한다.
+ * - R2DBC ConnectionFactory가 있으면 DataSource 자동 설정이 꺼지므로, 바우처 외 JDBC 서비스가 쓸 DataSource를 직접 만든다.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/* execution.virtual-threads=true 이면 Tomcat 요청 처리(컨트롤러 -> 서비스 -> 저장소)를 요청마다 가상 스레드에서 실행한다.
+ * 동시 요청 수는 Tomcat 스레드 풀이 아니라 DB 커넥션 풀(datasource.tuning.maximum-pool-size)에서 기다리는 것으로 제한된다.
+ * 가상 스레드는 JDK 21부터라서 JDK 17로 빌드해도 돌아가도록 리플렉션으로 만들고, 없으면 경고 후 기존 스레드 풀을 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "execution", name = "virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadExecutorCustomizer(ObjectProvider<HikariDataSource> dataSource) {
+        Optional<ExecutorService> executor = newVirtualThreadPerTaskExecutor();
+        if (executor.isEmpty()) {
+            logger.warn("Virtual threads need JDK 21+ (running {}), keeping the Tomcat thread pool", Runtime.version());
+            return protocolHandler -> {
+            };
+        }
+        dataSource.ifAvailable(pool -> checkCarrierThreads(pool.getMaximumPoolSize()));
+        logger.info("Tomcat requests run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor.get());
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 커넥션을 잡은 스레드만 JDBC 드라이버의 synchronized 구간에서 carrier에 고정(pinning)될 수 있으므로,
+    // carrier 수가 커넥션 수보다 많으면 커넥션을 기다리는 나머지 요청은 계속 실행된다.
+    private static void checkCarrierThreads(int poolSize) {
+        int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+        if (carriers <= poolSize) {
+            logger.warn("{} carrier threads can all be pinned by {} JDBC connections, start with -Djdk.virtualThreadScheduler.parallelism={}",
+                    carriers, poolSize, poolSize + Runtime.getRuntime().availableProcessors());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.request.CustomerRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.BatchGetCustomerResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.CustomerPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.service.CustomerService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequestMapping(value = "/api/v1/customer", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+@RestController
+public class CustomerRestController {
+
+    private final CustomerService customerService;
+
+    public CustomerRestController(CustomerService customerService) {
+        this.customerService = customerService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<CustomerDto> createCustomer(@RequestBody CustomerRequest request) {
+        return ResponseEntity.ok(customerService.createCustomer(request.getName()));
+    }
+
+    // 예: ["<customerId>", "<customerId>", ...] 최대 1000개
+    @PostMapping(value = "/batch-get")
+    public ResponseEntity<BatchGetCustomerResponse> findCustomersById(@RequestBody List<UUID> customerIds) {
+        return ResponseEntity.ok(customerService.findCustomers(customerIds));
+    }
+
+    @GetMapping(value = "/page")
+    public ResponseEntity<CustomerPageDto> getCustomerPage(@RequestParam(required = false) String after,
+                                                           @RequestParam(defaultValue = "100") int limit) {
+        UUID afterCustomerId = after == null ? null : UUID.fromString(after);
+        return ResponseEntity.ok(customerService.getCustomerPage(afterCustomerId, limit));
+    }
+
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<CustomerDto>> searchCustomers(@RequestParam String name,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(customerService.searchCustomers(name, limit));
+    }
+
+    @GetMapping(value = "/{customerId}")
+    public ResponseEntity<CustomerDto> findCustomer(@PathVariable String customerId) {
+        return ResponseEntity.ok(customerService.findCustomerByCustomerId(UUID.fromString(customerId)));
+    }
+
+    @PutMapping(value = "/{customerId}")
+    public ResponseEntity<CustomerDto> updateCustomer(@PathVariable String customerId, @RequestBody CustomerRequest request) {
+        return ResponseEntity.ok(customerService.updateCustomer(UUID.fromString(customerId), request.getName()));
+    }
+
+    @DeleteMapping("/{customerId}")
+    public ResponseEntity<Object> deleteCustomer(@PathVariable String customerId) {
+        customerService.deleteCustomer(UUID.fromString(customerId));
+        return ResponseEntity.accepted().build();
+    }
+}
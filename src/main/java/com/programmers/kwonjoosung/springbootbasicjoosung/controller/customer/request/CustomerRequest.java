@@ -0,0 +1,17 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class CustomerRequest {
+    private final String name;
+
+    @JsonCreator // 인자가 하나인 생성자는 명시하지 않으면 delegating creator로 해석된다.
+    public CustomerRequest(@JsonProperty("name") String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
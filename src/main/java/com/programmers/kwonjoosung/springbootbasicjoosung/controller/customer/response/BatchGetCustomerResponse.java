@@ -0,0 +1,23 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
+
+import java.util.List;
+
+public class BatchGetCustomerResponse {
+    private final List<CustomerDto> customers; // 요청한 id 순서 (중복 id는 한 번만)
+    private final List<String> missingCustomerIds;
+
+    public BatchGetCustomerResponse(List<CustomerDto> customers, List<String> missingCustomerIds) {
+        this.customers = customers;
+        this.missingCustomerIds = missingCustomerIds;
+    }
+
+    public List<CustomerDto> getCustomers() {
+        return customers;
+    }
+
+    public List<String> getMissingCustomerIds() {
+        return missingCustomerIds;
+    }
+}
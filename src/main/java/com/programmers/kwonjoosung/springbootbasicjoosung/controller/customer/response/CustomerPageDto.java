@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
+
+import java.util.List;
+
+public class CustomerPageDto {
+    private final List<CustomerDto> customers;
+    private final String nextCursor; // 마지막 페이지면 null
+
+    public CustomerPageDto(List<CustomerDto> customers, String nextCursor) {
+        this.customers = customers;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CustomerDto> getCustomers() {
+        return customers;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
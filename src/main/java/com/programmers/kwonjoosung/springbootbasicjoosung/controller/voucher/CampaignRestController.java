@@ -0,0 +1,46 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateCampaignRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.CampaignStatusDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.OutOfRangeException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.service.CampaignService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+@RequestMapping(value = "/api/v1/voucher/campaigns", produces = MediaType.APPLICATION_JSON_VALUE)
+@RestController
+public class CampaignRestController {
+
+    private final CampaignService campaignService;
+
+    public CampaignRestController(CampaignService campaignService) {
+        this.campaignService = campaignService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<CampaignStatusDto> startCampaign(@RequestBody CreateCampaignRequest request) {
+        return ResponseEntity.accepted().body(campaignService.startCampaign(request));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CampaignStatusDto> findCampaign(@PathVariable String jobId) {
+        return ResponseEntity.ok(campaignService.findCampaign(UUID.fromString(jobId)));
+    }
+
+    // 대기열이 가득 찼을 때는 잠시 뒤 다시 요청하면 되므로 503
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Object> handleRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    // 잘못된 바우처 타입, 발급 수량, jobId, 할인 범위
+    @ExceptionHandler({IllegalArgumentException.class, OutOfRangeException.class})
+    public ResponseEntity<Object> handleBadRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+}
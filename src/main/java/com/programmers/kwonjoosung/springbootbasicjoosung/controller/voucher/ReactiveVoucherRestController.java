@@ -0,0 +1,100 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.UpdateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.service.ReactiveVoucherService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.VoucherRestController.parseEtag;
+
+/* VoucherRestController의 읽기/쓰기 API를 같은 경로로 WebFlux에서 제공한다. (reactive 프로필)
+ * 목록 조회에 Accept: application/x-ndjson 을 주면 한 줄씩 흘려보내고, 클라이언트가 읽는 속도만큼만 DB에서 가져온다.
+ */
+@RequestMapping(value = "/api/v1/voucher", produces = MediaType.APPLICATION_JSON_VALUE)
+@RestController
+@Profile("reactive")
+public class ReactiveVoucherRestController {
+
+    private static final String ANY_ETAG = "*";
+
+    private final ReactiveVoucherService voucherService;
+
+    public ReactiveVoucherRestController(ReactiveVoucherService voucherService) {
+        this.voucherService = voucherService;
+    }
+
+    @PostMapping()
+    public Mono<VoucherDto> createVoucher(@RequestBody CreateVoucherRequest request) {
+        return voucherService.saveVoucher(request);
+    }
+
+    @GetMapping(value = "/list", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<VoucherDto> getAllVoucherList() {
+        return voucherService.getAllVouchers();
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<VoucherDto> exportVouchers() {
+        return voucherService.getAllVouchers();
+    }
+
+    @PostMapping(value = "/list", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<VoucherDto> findVouchersByType(@RequestBody VoucherType voucherType) {
+        return voucherService.findVoucher(voucherType);
+    }
+
+    @GetMapping(value = "/{voucherId}")
+    public Mono<ResponseEntity<VoucherDto>> findVoucherById(@PathVariable String voucherId) {
+        return voucherService.findVoucher(UUID.fromString(voucherId))
+                .map(ReactiveVoucherRestController::withEtag);
+    }
+
+    // VoucherRestController.updateVoucher와 같다. If-Match가 맞지 않으면 412, If-Match 없이 경합하면 409
+    @PutMapping(value = "/{voucherId}")
+    public Mono<ResponseEntity<VoucherDto>> updateVoucher(@PathVariable String voucherId,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                          @RequestBody UpdateVoucherRequest request) {
+        UUID id = UUID.fromString(voucherId);
+        VoucherType voucherType = VoucherType.of(request.getVoucherType());
+        if (ifMatch == null || ANY_ETAG.equals(ifMatch.trim())) {
+            return voucherService.updateVoucher(id, voucherType, request.getDiscount())
+                    .map(ReactiveVoucherRestController::withEtag);
+        }
+        Long expectedVersion = parseEtag(ifMatch);
+        if (expectedVersion == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+        }
+        return voucherService.updateVoucher(id, voucherType, request.getDiscount(), expectedVersion)
+                .map(ReactiveVoucherRestController::withEtag)
+                .onErrorReturn(VersionConflictException.class, ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Object> handleVersionConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private static ResponseEntity<VoucherDto> withEtag(VoucherDto voucher) {
+        return ResponseEntity.ok()
+                .eTag(Long.toString(voucher.getVersion()))
+                .body(voucher);
+    }
+
+    @DeleteMapping("/{voucherId}")
+    public Mono<ResponseEntity<Object>> deleteVoucher(@PathVariable String voucherId) {
+        return voucherService.deleteVoucher(UUID.fromString(voucherId))
+                .thenReturn(ResponseEntity.accepted().build());
+    }
+}
@@ -5,23 +5,46 @@ import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherT
 import com.programmers.kwonjoosung.springbootbasicjoosung.service.VoucherService;
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.PriceBatchRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.UpdateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherSearchRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.BatchGetVoucherResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.BulkCreateVoucherResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.PriceBatchResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherStatsDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
 
 @RequestMapping(value = "/api/v1/voucher",produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
 @RestController
+@Profile("!reactive") // reactive 프로필에서는 ReactiveVoucherRestController가 같은 경로를 처리한다.
 public class VoucherRestController {
 
+    private static final int NEW_LINE = '\n';
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
     private final VoucherService voucherService;
+    private final ObjectMapper objectMapper;
 
-    public VoucherRestController(VoucherService voucherService) {
+    public VoucherRestController(VoucherService voucherService, ObjectMapper objectMapper) {
         this.voucherService = voucherService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping()
@@ -29,11 +52,60 @@ public class VoucherRestController {
         return ResponseEntity.ok(voucherService.saveVoucher(request));
     }
 
+    @PostMapping(value = "/bulk")
+    public ResponseEntity<BulkCreateVoucherResponse> createVouchers(@RequestBody List<CreateVoucherRequest> requests) {
+        return ResponseEntity.ok(voucherService.saveVouchers(requests));
+    }
+
+    // 예: ["<voucherId>", "<voucherId>", ...] 최대 1000개
+    @PostMapping(value = "/batch-get")
+    public ResponseEntity<BatchGetVoucherResponse> findVouchersById(@RequestBody List<UUID> voucherIds) {
+        return ResponseEntity.ok(voucherService.findVouchers(voucherIds));
+    }
+
+    @PostMapping(value = "/price-batch")
+    public ResponseEntity<PriceBatchResponse> priceVouchers(@RequestBody PriceBatchRequest request) {
+        return ResponseEntity.ok(voucherService.priceVouchers(request));
+    }
+
     @GetMapping(value = "/list")
     public ResponseEntity<List<VoucherDto>> getAllVoucherList() {
         return ResponseEntity.ok(voucherService.getAllVouchers());
     }
 
+    @GetMapping(value = "/page")
+    public ResponseEntity<VoucherPageDto> getVoucherPage(@RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "100") int limit) {
+        UUID afterVoucherId = after == null ? null : UUID.fromString(after);
+        return ResponseEntity.ok(voucherService.getVoucherPage(afterVoucherId, limit));
+    }
+
+    // 예: /search?voucherType=fixed&minDiscount=1000&maxDiscount=5000&sort=discount_desc&limit=20
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<VoucherDto>> searchVouchers(VoucherSearchRequest request) {
+        return ResponseEntity.ok(voucherService.searchVouchers(request));
+    }
+
+    @GetMapping(value = "/stats")
+    public ResponseEntity<List<VoucherStatsDto>> getVoucherStats() {
+        return ResponseEntity.ok(voucherService.getVoucherStats());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportVouchers() {
+        StreamingResponseBody body = outputStream -> voucherService.exportVouchers(voucher -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(voucher));
+                outputStream.write(NEW_LINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping(value = "/list")
     public ResponseEntity<List<VoucherDto>> findVouchersByType(@RequestBody VoucherType voucherType) { // 다양하게 검색할 수 있도록 만들어 보는 것도 좋을 듯
         return ResponseEntity.ok(voucherService.findVoucher(voucherType));
@@ -41,8 +113,59 @@ public class VoucherRestController {
 
     @GetMapping(value = "/{voucherId}")
     public ResponseEntity<VoucherDto> findVoucherById(@PathVariable String voucherId) {
-        return ResponseEntity.ok(voucherService.findVoucher(UUID.fromString(voucherId)));
+        return withEtag(voucherService.findVoucher(UUID.fromString(voucherId)));
+    }
+
+    // If-Match가 있으면 그 version일 때만 수정하고 아니면 412, 없으면 현재 version 기준으로 수정하고 경합 시 409
+    @PutMapping(value = "/{voucherId}")
+    public ResponseEntity<VoucherDto> updateVoucher(@PathVariable String voucherId,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @RequestBody UpdateVoucherRequest request) {
+        UUID id = UUID.fromString(voucherId);
+        VoucherType voucherType = VoucherType.of(request.getVoucherType());
+        if (ifMatch == null || ANY_ETAG.equals(ifMatch.trim())) {
+            return withEtag(voucherService.updateVoucher(id, voucherType, request.getDiscount()));
+        }
+        Long expectedVersion = parseEtag(ifMatch);
+        if (expectedVersion == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        try {
+            return withEtag(voucherService.updateVoucher(id, voucherType, request.getDiscount(), expectedVersion));
+        } catch (VersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Object> handleVersionConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    // 잘못된 정렬 순서, id, 요청 개수
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleBadRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    private static ResponseEntity<VoucherDto> withEtag(VoucherDto voucher) {
+        return ResponseEntity.ok()
+                .eTag(Long.toString(voucher.getVersion()))
+                .body(voucher);
+    }
 
+    // "3", W/"3" 형태의 ETag에서 version을 꺼낸다. 숫자가 아니면 어떤 version과도 맞지 않으므로 null
+    static Long parseEtag(String etag) {
+        String value = etag.trim();
+        if (value.startsWith(WEAK_ETAG_PREFIX)) {
+            value = value.substring(WEAK_ETAG_PREFIX.length());
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     @DeleteMapping("/{voucherId}")
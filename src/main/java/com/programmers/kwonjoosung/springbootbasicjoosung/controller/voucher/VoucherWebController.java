@@ -6,6 +6,7 @@ import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.req
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
 import com.programmers.kwonjoosung.springbootbasicjoosung.service.VoucherService;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
@@ -14,6 +15,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Controller
+@Profile("!reactive") // ModelAndView(Spring MVC) 기반이라 WebFlux에서는 쓸 수 없다.
 public class VoucherWebController {
 
     private final VoucherService voucherService;
@@ -60,9 +62,13 @@ public class VoucherWebController {
     }
 
     @PostMapping("/voucher/{voucherId}")
-    public ModelAndView updateVoucher(@PathVariable String voucherId, String voucherType, Long discount) {
+    public ModelAndView updateVoucher(@PathVariable String voucherId, String voucherType, Long discount, Long version) {
         try {
-            voucherService.updateVoucher(UUID.fromString(voucherId), VoucherType.valueOf(voucherType), discount);
+            if (version == null) {
+                voucherService.updateVoucher(UUID.fromString(voucherId), VoucherType.valueOf(voucherType), discount);
+            } else { // 상세 화면을 연 뒤 다른 곳에서 수정됐다면 덮어쓰지 않고 에러 화면으로 보낸다.
+                voucherService.updateVoucher(UUID.fromString(voucherId), VoucherType.valueOf(voucherType), discount, version);
+            }
             return new ModelAndView("redirect:/voucher/list");
         } catch (RuntimeException e) {
             return new ModelAndView("/voucher/error","message", e.getMessage());
@@ -0,0 +1,25 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request;
+
+public class CreateCampaignRequest {
+    private final String voucherType;
+    private final long discount;
+    private final long count;
+
+    public CreateCampaignRequest(String voucherType, long discount, long count) {
+        this.voucherType = voucherType;
+        this.discount = discount;
+        this.count = count;
+    }
+
+    public String getVoucherType() {
+        return voucherType;
+    }
+
+    public long getDiscount() {
+        return discount;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
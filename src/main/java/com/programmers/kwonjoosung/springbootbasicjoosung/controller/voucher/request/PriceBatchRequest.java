@@ -0,0 +1,22 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request;
+
+import java.util.UUID;
+
+// i번째 바우처를 i번째 금액에 적용한다. 수천 건을 객체 없이 받도록 (voucherId, amount) 쌍 대신 배열 두 개로 받는다.
+public class PriceBatchRequest {
+    private final UUID[] voucherIds;
+    private final long[] amounts;
+
+    public PriceBatchRequest(UUID[] voucherIds, long[] amounts) {
+        this.voucherIds = voucherIds;
+        this.amounts = amounts;
+    }
+
+    public UUID[] getVoucherIds() {
+        return voucherIds;
+    }
+
+    public long[] getAmounts() {
+        return amounts;
+    }
+}
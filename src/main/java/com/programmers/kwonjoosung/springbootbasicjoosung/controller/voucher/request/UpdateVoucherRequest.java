@@ -0,0 +1,19 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request;
+
+public class UpdateVoucherRequest {
+    private final String voucherType;
+    private final long discount;
+
+    public UpdateVoucherRequest(String voucherType, long discount) {
+        this.voucherType = voucherType;
+        this.discount = discount;
+    }
+
+    public String getVoucherType() {
+        return voucherType;
+    }
+
+    public long getDiscount() {
+        return discount;
+    }
+}
@@ -6,6 +6,7 @@ public class VoucherDto {
     private String voucherId;
     private String voucherType;
     private long discount;
+    private long version;
 
     public VoucherDto(String voucherId, String voucherType, long discount) {
         this.voucherId = voucherId;
@@ -16,6 +17,7 @@ public class VoucherDto {
         this.voucherId = voucher.getVoucherId().toString();
         this.voucherType = voucher.getVoucherType().toString();
         this.discount = voucher.getDiscount();
+        this.version = voucher.getVersion();
     }
 
     public String getVoucherId() {
@@ -29,5 +31,9 @@ public class VoucherDto {
     public long getDiscount() {
         return discount;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
 
@@ -0,0 +1,37 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request;
+
+public class VoucherSearchRequest {
+    private final String voucherType;
+    private final Long minDiscount;
+    private final Long maxDiscount;
+    private final String sort;
+    private final Integer limit;
+
+    public VoucherSearchRequest(String voucherType, Long minDiscount, Long maxDiscount, String sort, Integer limit) {
+        this.voucherType = voucherType;
+        this.minDiscount = minDiscount;
+        this.maxDiscount = maxDiscount;
+        this.sort = sort;
+        this.limit = limit;
+    }
+
+    public String getVoucherType() {
+        return voucherType;
+    }
+
+    public Long getMinDiscount() {
+        return minDiscount;
+    }
+
+    public Long getMaxDiscount() {
+        return maxDiscount;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,23 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+
+import java.util.List;
+
+public class BatchGetVoucherResponse {
+    private final List<VoucherDto> vouchers; // 요청한 id 순서 (중복 id는 한 번만)
+    private final List<String> missingVoucherIds;
+
+    public BatchGetVoucherResponse(List<VoucherDto> vouchers, List<String> missingVoucherIds) {
+        this.vouchers = vouchers;
+        this.missingVoucherIds = missingVoucherIds;
+    }
+
+    public List<VoucherDto> getVouchers() {
+        return vouchers;
+    }
+
+    public List<String> getMissingVoucherIds() {
+        return missingVoucherIds;
+    }
+}
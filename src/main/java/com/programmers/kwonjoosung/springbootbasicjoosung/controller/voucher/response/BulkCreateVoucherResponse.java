@@ -0,0 +1,29 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+
+import java.util.List;
+
+public class BulkCreateVoucherResponse {
+    private final List<VoucherDto> created;
+    private final List<String> failedVoucherIds; // 저장 중 id가 겹쳐서 저장하지 못한 바우처
+    private final List<Integer> invalidRequestIndexes; // 요청 목록에서 타입이나 할인 범위가 잘못된 위치
+
+    public BulkCreateVoucherResponse(List<VoucherDto> created, List<String> failedVoucherIds, List<Integer> invalidRequestIndexes) {
+        this.created = created;
+        this.failedVoucherIds = failedVoucherIds;
+        this.invalidRequestIndexes = invalidRequestIndexes;
+    }
+
+    public List<VoucherDto> getCreated() {
+        return created;
+    }
+
+    public List<String> getFailedVoucherIds() {
+        return failedVoucherIds;
+    }
+
+    public List<Integer> getInvalidRequestIndexes() {
+        return invalidRequestIndexes;
+    }
+}
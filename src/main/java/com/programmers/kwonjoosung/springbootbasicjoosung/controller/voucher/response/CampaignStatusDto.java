@@ -0,0 +1,63 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.campaign.CampaignJob;
+
+public class CampaignStatusDto {
+    private final String jobId;
+    private final String status;
+    private final String voucherType;
+    private final long discount;
+    private final long requestedCount;
+    private final long issuedCount;
+    private final long failedCount;
+    private final double vouchersPerSecond;
+    private final String failureMessage;
+
+    public CampaignStatusDto(CampaignJob job) {
+        this.jobId = job.getJobId().toString();
+        this.status = job.getStatus().toString();
+        this.voucherType = job.getVoucherType().toString();
+        this.discount = job.getDiscount();
+        this.requestedCount = job.getRequestedCount();
+        this.issuedCount = job.getIssuedCount();
+        this.failedCount = job.getFailedCount();
+        this.vouchersPerSecond = job.getVouchersPerSecond();
+        this.failureMessage = job.getFailureMessage();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getVoucherType() {
+        return voucherType;
+    }
+
+    public long getDiscount() {
+        return discount;
+    }
+
+    public long getRequestedCount() {
+        return requestedCount;
+    }
+
+    public long getIssuedCount() {
+        return issuedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public double getVouchersPerSecond() {
+        return vouchersPerSecond;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import java.util.List;
+
+public class PriceBatchResponse {
+    private final long[] finalAmounts; // 요청 순서 그대로, 없는 바우처는 원래 금액
+    private final long[] discountAmounts;
+    private final List<String> missingVoucherIds;
+
+    public PriceBatchResponse(long[] finalAmounts, long[] discountAmounts, List<String> missingVoucherIds) {
+        this.finalAmounts = finalAmounts;
+        this.discountAmounts = discountAmounts;
+        this.missingVoucherIds = missingVoucherIds;
+    }
+
+    public long[] getFinalAmounts() {
+        return finalAmounts;
+    }
+
+    public long[] getDiscountAmounts() {
+        return discountAmounts;
+    }
+
+    public List<String> getMissingVoucherIds() {
+        return missingVoucherIds;
+    }
+}
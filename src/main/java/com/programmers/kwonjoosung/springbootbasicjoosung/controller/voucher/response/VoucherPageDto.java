@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+
+import java.util.List;
+
+public class VoucherPageDto {
+    private final List<VoucherDto> vouchers;
+    private final String nextCursor; // 마지막 페이지면 null
+
+    public VoucherPageDto(List<VoucherDto> vouchers, String nextCursor) {
+        this.vouchers = vouchers;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<VoucherDto> getVouchers() {
+        return vouchers;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class VoucherStatsDto {
+    private final String voucherType;
+    private final long count;
+    private final long sum;
+    private final Double average;
+    private final Long min;
+    private final Long max;
+    private final List<Bucket> histogram;
+
+    public VoucherStatsDto(VoucherStats stats) {
+        this.voucherType = stats.getVoucherType().toString();
+        this.count = stats.getCount();
+        this.sum = stats.getSum();
+        this.average = stats.getCount() == 0 ? null : (double) stats.getSum() / stats.getCount();
+        this.min = stats.getMin();
+        this.max = stats.getMax();
+        long width = VoucherStats.bucketWidth(stats.getVoucherType());
+        long[] counts = stats.getHistogram();
+        this.histogram = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            histogram.add(new Bucket(i * width, (i + 1) * width, counts[i]));
+        }
+    }
+
+    public String getVoucherType() {
+        return voucherType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public Double getAverage() {
+        return average;
+    }
+
+    public Long getMin() {
+        return min;
+    }
+
+    public Long getMax() {
+        return max;
+    }
+
+    public List<Bucket> getHistogram() {
+        return histogram;
+    }
+
+    // [from, to) 구간의 바우처 수
+    public static class Bucket {
+        private final long from;
+        private final long to;
+        private final long count;
+
+        public Bucket(long from, long to, long count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public long getFrom() {
+            return from;
+        }
+
+        public long getTo() {
+            return to;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.request.AssignWalletRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response.AssignWalletResultDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response.RedeemResultDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.service.WalletService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequestMapping(value = "/api/v1/wallet", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+@RestController
+public class WalletRestController {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private final WalletService walletService;
+
+    public WalletRestController(WalletService walletService) {
+        this.walletService = walletService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<Object> assignVoucher(@RequestBody AssignWalletRequest request) {
+        walletService.insertToWallet(UUID.fromString(request.getCustomerId()), UUID.fromString(request.getVoucherId()));
+        return ResponseEntity.ok().build();
+    }
+
+    // 예: [{"customerId": "...", "voucherId": "..."}, ...] 최대 1000쌍
+    @PostMapping(value = "/batch")
+    public ResponseEntity<List<AssignWalletResultDto>> assignVouchers(@RequestBody List<AssignWalletRequest> requests) {
+        return ResponseEntity.ok(walletService.insertAllToWallet(requests));
+    }
+
+    @GetMapping(value = "/customer/{customerId}")
+    public ResponseEntity<VoucherPageDto> getWalletPage(@PathVariable String customerId,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "100") int limit) {
+        UUID afterVoucherId = after == null ? null : UUID.fromString(after);
+        return ResponseEntity.ok(walletService.getWalletPage(UUID.fromString(customerId), afterVoucherId, limit));
+    }
+
+    @GetMapping(value = "/voucher/{voucherId}")
+    public ResponseEntity<CustomerDto> findCustomerByVoucherId(@PathVariable String voucherId) {
+        return ResponseEntity.ok(walletService.findCustomerByVoucherId(UUID.fromString(voucherId)));
+    }
+
+    @DeleteMapping("/voucher/{voucherId}")
+    public ResponseEntity<Object> deleteVoucherFromWallet(@PathVariable String voucherId) {
+        walletService.deleteVoucherFromWallet(UUID.fromString(voucherId));
+        return ResponseEntity.accepted().build();
+    }
+
+    // 재시도는 같은 Idempotency-Key 헤더로 보내면 처음 결과(200)를 그대로 받는다.
+    @PostMapping(value = "/customer/{customerId}/voucher/{voucherId}/redeem")
+    public ResponseEntity<RedeemResultDto> redeemVoucher(@PathVariable String customerId,
+                                                         @PathVariable String voucherId,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        RedeemResultDto result = walletService.redeem(UUID.fromString(customerId), UUID.fromString(voucherId), idempotencyKey);
+        HttpStatus status = switch (result.getResult()) {
+            case REDEEMED -> HttpStatus.OK;
+            case ALREADY_USED -> HttpStatus.CONFLICT;
+            case MISSING -> HttpStatus.NOT_FOUND;
+        };
+        return ResponseEntity.status(status).body(result);
+    }
+
+    // batch 크기 초과, 잘못된 id
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleBadRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+}
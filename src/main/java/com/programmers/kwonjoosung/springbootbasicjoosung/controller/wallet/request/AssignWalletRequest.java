@@ -0,0 +1,19 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.request;
+
+public class AssignWalletRequest {
+    private final String customerId;
+    private final String voucherId;
+
+    public AssignWalletRequest(String customerId, String voucherId) {
+        this.customerId = customerId;
+        this.voucherId = voucherId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getVoucherId() {
+        return voucherId;
+    }
+}
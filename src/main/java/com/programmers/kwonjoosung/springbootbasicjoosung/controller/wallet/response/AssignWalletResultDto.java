@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+
+public class AssignWalletResultDto {
+    private final String customerId;
+    private final String voucherId;
+    private final AssignResult result;
+
+    public AssignWalletResultDto(String customerId, String voucherId, AssignResult result) {
+        this.customerId = customerId;
+        this.voucherId = voucherId;
+        this.result = result;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getVoucherId() {
+        return voucherId;
+    }
+
+    public AssignResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+
+public class RedeemResultDto {
+    private final String customerId;
+    private final String voucherId;
+    private final RedeemResult result;
+
+    public RedeemResultDto(String customerId, String voucherId, RedeemResult result) {
+        this.customerId = customerId;
+        this.voucherId = voucherId;
+        this.result = result;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getVoucherId() {
+        return voucherId;
+    }
+
+    public RedeemResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class VersionConflictException extends RuntimeException {
+
+    private static final Logger logger = LoggerFactory.getLogger(VersionConflictException.class);
+
+    public VersionConflictException(String data, String Table, long expectedVersion) {
+        super(data + " in " + Table + " was modified (expected version " + expectedVersion + ")");
+        logger.warn("VersionConflictException Data -> {}, expected version -> {}", data, expectedVersion);
+    }
+}
@@ -0,0 +1,94 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.campaign;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CampaignJob {
+
+    private final UUID jobId;
+    private final VoucherType voucherType;
+    private final long discount;
+    private final long requestedCount;
+    private final AtomicLong issuedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile CampaignStatus status = CampaignStatus.PENDING;
+    private volatile long startedAtNanos;
+    private volatile long finishedAtNanos;
+    private volatile String failureMessage;
+
+    public CampaignJob(VoucherType voucherType, long discount, long requestedCount) {
+        this.jobId = UUID.randomUUID();
+        this.voucherType = voucherType;
+        this.discount = discount;
+        this.requestedCount = requestedCount;
+    }
+
+    public void start() {
+        this.startedAtNanos = System.nanoTime();
+        this.status = CampaignStatus.RUNNING;
+    }
+
+    public void addResult(long issued, long failed) {
+        issuedCount.addAndGet(issued);
+        failedCount.addAndGet(failed);
+    }
+
+    public void complete() {
+        this.finishedAtNanos = System.nanoTime();
+        this.status = CampaignStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.finishedAtNanos = System.nanoTime();
+        this.failureMessage = message;
+        this.status = CampaignStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == CampaignStatus.COMPLETED || status == CampaignStatus.FAILED;
+    }
+
+    public double getVouchersPerSecond() {
+        if (status == CampaignStatus.PENDING) {
+            return 0;
+        }
+        long endNanos = status == CampaignStatus.RUNNING ? System.nanoTime() : finishedAtNanos;
+        long elapsedNanos = Math.max(endNanos - startedAtNanos, 1);
+        return issuedCount.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public VoucherType getVoucherType() {
+        return voucherType;
+    }
+
+    public long getDiscount() {
+        return discount;
+    }
+
+    public long getRequestedCount() {
+        return requestedCount;
+    }
+
+    public long getIssuedCount() {
+        return issuedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public CampaignStatus getStatus() {
+        return status;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
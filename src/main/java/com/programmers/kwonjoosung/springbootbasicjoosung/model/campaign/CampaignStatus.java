@@ -0,0 +1,10 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.campaign;
+
+public enum CampaignStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+
+}
@@ -11,17 +11,24 @@ public class FixedAmountDiscountVoucher implements Voucher {
     private static final long MAX_AMOUNT = 100_000L;
     private final UUID voucherId;
     private final long discountAmount;
+    private final long version;
     private final VoucherType voucherType = VoucherType.FIXED;
     private static final String WRONG_RANGE_MESSAGE = "The discount amount is 0 won or more and 100,000 won or less.";
+    private static final String WRONG_AMOUNT_MESSAGE = "The amount is 0 won or more -> ";
 
     public FixedAmountDiscountVoucher(long discountAmount) {
         this(UUID.randomUUID(), discountAmount);
     }
 
     public FixedAmountDiscountVoucher(UUID voucherId, long discountAmount) {
+        this(voucherId, discountAmount, 0L);
+    }
+
+    public FixedAmountDiscountVoucher(UUID voucherId, long discountAmount, long version) {
         checkRange(discountAmount);
         this.voucherId = voucherId;
         this.discountAmount = discountAmount;
+        this.version = version;
     }
 
     private void checkRange(long discountAmount) {
@@ -40,6 +47,23 @@ public class FixedAmountDiscountVoucher implements Voucher {
         return discountAmount;
     }
 
+    @Override
+    public long apply(long amount) {
+        checkAmount(amount);
+        return Math.max(amount - discountAmount, 0L);
+    }
+
+    private void checkAmount(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException(WRONG_AMOUNT_MESSAGE + amount);
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public UUID getVoucherId() {
         return voucherId;
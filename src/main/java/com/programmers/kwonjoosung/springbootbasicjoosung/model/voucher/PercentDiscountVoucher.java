@@ -11,17 +11,24 @@ public class PercentDiscountVoucher implements Voucher {
     private static final long MAX_PERCENT = 100L;
     private final UUID voucherId;
     private final long discountPercent;
+    private final long version;
     private final VoucherType voucherType = VoucherType.PERCENT;
     private static final String WRONG_RANGE_MESSAGE = "The discount percent is 0% or more and 100% or less.";
+    private static final String WRONG_AMOUNT_MESSAGE = "The amount is 0 won or more -> ";
 
     public PercentDiscountVoucher(long discountPercent) {
         this(UUID.randomUUID(), discountPercent);
     }
 
     public PercentDiscountVoucher(UUID voucherId, long discountPercent) {
+        this(voucherId, discountPercent, 0L);
+    }
+
+    public PercentDiscountVoucher(UUID voucherId, long discountPercent, long version) {
         checkRange(discountPercent);
         this.voucherId = voucherId;
         this.discountPercent = discountPercent;
+        this.version = version;
     }
 
     private void checkRange(long discountPercent) {
@@ -40,6 +47,25 @@ public class PercentDiscountVoucher implements Voucher {
         return discountPercent;
     }
 
+    // amount * percent 가 long 범위를 넘지 않도록 100으로 먼저 나눠서 계산한다. (할인액은 원 단위 내림)
+    @Override
+    public long apply(long amount) {
+        checkAmount(amount);
+        long discountAmount = amount / MAX_PERCENT * discountPercent + amount % MAX_PERCENT * discountPercent / MAX_PERCENT;
+        return amount - discountAmount;
+    }
+
+    private void checkAmount(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException(WRONG_AMOUNT_MESSAGE + amount);
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public UUID getVoucherId() {
         return voucherId;
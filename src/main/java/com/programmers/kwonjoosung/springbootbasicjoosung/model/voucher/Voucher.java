@@ -10,4 +10,8 @@ public interface Voucher {
 
     VoucherType getVoucherType();
 
+    long getVersion(); // 수정될 때마다 1씩 증가한다. (낙관적 락)
+
+    long apply(long amount); // 할인을 적용한 결제 금액 (0원 아래로 내려가지 않는다)
+
 }
@@ -8,13 +8,17 @@ public class VoucherFactory {
 
     }
 
-    public static Voucher createVoucher(VoucherType voucherType, UUID voucherId, long discount) {
+    public static Voucher createVoucher(VoucherType voucherType, UUID voucherId, long discount, long version) {
         return switch (voucherType) {
-            case FIXED -> new FixedAmountDiscountVoucher(voucherId, discount);
-            case PERCENT -> new PercentDiscountVoucher(voucherId, discount);
+            case FIXED -> new FixedAmountDiscountVoucher(voucherId, discount, version);
+            case PERCENT -> new PercentDiscountVoucher(voucherId, discount, version);
         };
     }
 
+    public static Voucher createVoucher(VoucherType voucherType, UUID voucherId, long discount) {
+        return createVoucher(voucherType, voucherId, discount, 0L);
+    }
+
     public static Voucher createVoucher(VoucherType voucherType, long discount) {
         return createVoucher(voucherType, UUID.randomUUID(), discount);
     }
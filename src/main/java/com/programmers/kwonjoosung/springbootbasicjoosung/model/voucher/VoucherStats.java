@@ -0,0 +1,61 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher;
+
+/* 타입별 할인값 통계
+ * histogram[i]는 [i * bucketWidth, (i + 1) * bucketWidth) 구간의 바우처 수이고,
+ * 구간 폭은 타입별 할인 허용 범위(FIXED 0~100,000원, PERCENT 0~100%)를 HISTOGRAM_BUCKETS개로 나눈 값이다.
+ */
+public class VoucherStats {
+
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    private final VoucherType voucherType;
+    private final long count;
+    private final long sum;
+    private final Long min; // 바우처가 없으면 null
+    private final Long max;
+    private final long[] histogram;
+
+    public VoucherStats(VoucherType voucherType, long count, long sum, Long min, Long max, long[] histogram) {
+        this.voucherType = voucherType;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.histogram = histogram;
+    }
+
+    public static long bucketWidth(VoucherType voucherType) {
+        return switch (voucherType) {
+            case FIXED -> 10_000L;
+            case PERCENT -> 10L;
+        };
+    }
+
+    public static int bucketOf(VoucherType voucherType, long discount) {
+        return (int) Math.min(discount / bucketWidth(voucherType), HISTOGRAM_BUCKETS - 1);
+    }
+
+    public VoucherType getVoucherType() {
+        return voucherType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public Long getMin() {
+        return min;
+    }
+
+    public Long getMax() {
+        return max;
+    }
+
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+}
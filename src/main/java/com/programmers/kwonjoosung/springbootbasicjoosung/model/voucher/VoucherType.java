@@ -2,24 +2,40 @@ package com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.WrongVoucherTypeException;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum VoucherType {
 
     FIXED("fixed"),
     PERCENT("percent");
 
+    // DB에 저장된 이름("FIXED")과 입력용 소문자("fixed")를 모두 등록해 두고 행마다 values()를 돌거나 문자열을 만들지 않는다.
+    private static final Map<String, VoucherType> LOOKUP = new HashMap<>();
+
+    static {
+        for (VoucherType voucherType : values()) {
+            LOOKUP.put(voucherType.name(), voucherType);
+            LOOKUP.put(voucherType.type, voucherType);
+        }
+    }
+
     private final String type;
 
     VoucherType(String type) {
         this.type = type;
     }
 
+    // "Fixed"처럼 대소문자가 섞인 입력만 소문자로 바꿔서 한 번 더 찾는다.
     public static VoucherType of(String inputVoucherType) {
-        return Stream.of(VoucherType.values())
-                .filter(value -> Objects.equals(value.type, inputVoucherType.toLowerCase()))
-                .findFirst()
-                .orElseThrow(() -> new WrongVoucherTypeException(inputVoucherType));
+        VoucherType voucherType = LOOKUP.get(inputVoucherType);
+        if (voucherType == null) {
+            voucherType = LOOKUP.get(inputVoucherType.toLowerCase(Locale.ROOT));
+        }
+        if (voucherType == null) {
+            throw new WrongVoucherTypeException(inputVoucherType);
+        }
+        return voucherType;
     }
 }
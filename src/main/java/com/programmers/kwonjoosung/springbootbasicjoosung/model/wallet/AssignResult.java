@@ -0,0 +1,10 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet;
+
+public enum AssignResult {
+
+    OK,
+    DUPLICATE, // 이미 지갑에 있는 바우처 (같은 요청 안에서 중복된 바우처 포함)
+    MISSING,   // 고객이나 바우처가 존재하지 않음
+    INVALID    // 고객 id나 바우처 id가 UUID 형식이 아님
+
+}
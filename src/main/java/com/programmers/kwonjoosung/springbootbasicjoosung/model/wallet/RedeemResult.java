@@ -0,0 +1,9 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet;
+
+public enum RedeemResult {
+
+    REDEEMED,     // 이번 요청으로 사용 처리됨 (같은 idempotency key로 다시 보낸 요청 포함)
+    ALREADY_USED, // 다른 요청이 먼저 사용함
+    MISSING       // 고객의 지갑에 없는 바우처
+
+}
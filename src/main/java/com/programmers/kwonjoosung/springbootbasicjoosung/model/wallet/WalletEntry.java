@@ -0,0 +1,27 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet;
+
+import java.util.UUID;
+
+public class WalletEntry {
+
+    private final UUID customerId;
+    private final UUID voucherId;
+
+    public WalletEntry(UUID customerId, UUID voucherId) {
+        this.customerId = customerId;
+        this.voucherId = voucherId;
+    }
+
+    public UUID getCustomerId() {
+        return customerId;
+    }
+
+    public UUID getVoucherId() {
+        return voucherId;
+    }
+
+    @Override
+    public String toString() {
+        return "WalletEntry { " + "customerId = " + customerId + ", voucherId = " + voucherId + " }";
+    }
+}
@@ -0,0 +1,84 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.UUID;
+
+/* UUID 컬럼 저장 방식
+ * VARCHAR -> varchar(255)에 36자리 문자열로 저장 (기존 스키마)
+ * BINARY  -> BINARY(16)에 msb, lsb 순서의 16바이트로 저장 (MySQL UUID_TO_BIN(uuid)과 같은 바이트 순서)
+ * 두 방식 모두 정렬 순서가 같아서 voucher_id 기준 keyset 페이지네이션 결과가 달라지지 않는다.
+ */
+public enum UuidStorage {
+
+    VARCHAR {
+        @Override
+        public Object toParameter(UUID uuid) {
+            return uuid.toString();
+        }
+    },
+    BINARY {
+        @Override
+        public Object toParameter(UUID uuid) {
+            return toBytes(uuid);
+        }
+    };
+
+    private static final int UUID_BYTES = 16;
+
+    // DB의 voucher_id 정렬 순서(문자열, BINARY 모두)와 같다. UUID.compareTo는 signed 비교라서 순서가 다르다.
+    public static final Comparator<UUID> ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    public abstract Object toParameter(UUID uuid);
+
+    // 컬럼 타입을 보고 변환하기 때문에 RowMapper는 저장 방식을 몰라도 된다.
+    public static UUID read(ResultSet rs, String columnName) throws SQLException {
+        return read(rs.getObject(columnName));
+    }
+
+    // 컬럼 순서가 고정된 SELECT에서 이름 조회 없이 위치로 읽는다.
+    public static UUID read(ResultSet rs, int columnIndex) throws SQLException {
+        return read(rs.getObject(columnIndex));
+    }
+
+    // R2DBC Row처럼 컬럼 값을 Object로 꺼내는 경우 (드라이버에 따라 BINARY가 ByteBuffer로 온다)
+    public static UUID read(Object value) {
+        if (value instanceof byte[] bytes) {
+            return fromBytes(bytes);
+        }
+        if (value instanceof ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return fromBytes(bytes);
+        }
+        return UUID.fromString((String) value);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[UUID_BYTES];
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (56 - 8 * i));
+            bytes[i + 8] = (byte) (lsb >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != UUID_BYTES) {
+            throw new IllegalArgumentException("UUID column must be " + UUID_BYTES + " bytes -> " + bytes.length);
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(msb, lsb);
+    }
+}
@@ -2,6 +2,7 @@ package com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,8 +13,16 @@ public interface CustomerRepository {
 
     Optional<Customer> findById(UUID customerId);
 
+    List<Customer> findAllById(Collection<UUID> customerIds); // 없는 id는 결과에서 빠진다. (순서 보장 X)
+
     List<Customer> findAll();
 
+    // customer_id 순서의 keyset 페이지, afterCustomerId가 null이면 첫 페이지
+    List<Customer> findPage(UUID afterCustomerId, int limit);
+
+    // 이름이 prefix로 시작하는 고객을 (name, customer_id) 순서로 limit 명까지 조회
+    List<Customer> findByNamePrefix(String prefix, int limit);
+
     Customer update(Customer customer);
 
     void delete(UUID customerId);
@@ -1,47 +1,85 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerTable.COLUMNS;
 import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerTable.CUSTOMER_ID;
 import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerTable.NAME;
 
 @Repository
+@Profile("!local")
 public class JdbcCustomerRepository implements CustomerRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcOperations jdbcOperations;
+    private final JdbcRepositoryProperties properties;
     public static final String CUSTOMER = "customer";
     private static final int FAIL = 0;
+    private static final String CUSTOMER_IDS = "customer_ids";
+    private static final String INSERT_SQL = "INSERT INTO customers (" + COLUMNS + ") VALUES (?, ?)";
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM customers";
+    private static final String FIND_ALL_BY_ID_SQL = "SELECT " + COLUMNS + " FROM customers WHERE customer_id IN (:customer_ids)";
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM customers WHERE customer_id = ?";
+    private static final String FIRST_PAGE_SQL = "SELECT " + COLUMNS + " FROM customers ORDER BY customer_id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = "SELECT " + COLUMNS + " FROM customers WHERE customer_id > ? ORDER BY customer_id LIMIT ?";
+    private static final String FIND_BY_NAME_PREFIX_SQL = "SELECT " + COLUMNS + " FROM customers WHERE name LIKE ? ORDER BY name, customer_id LIMIT ?";
+    private static final String UPDATE_SQL = "UPDATE customers SET name = ? WHERE customer_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM customers WHERE customer_id = ?";
 
     public JdbcCustomerRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new JdbcRepositoryProperties());
+    }
+
+    @Autowired
+    public JdbcCustomerRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcRepositoryProperties properties) {
         this.jdbcTemplate = jdbcTemplate;
+        this.jdbcOperations = jdbcTemplate.getJdbcOperations();
+        this.properties = properties;
     }
 
+    // 모든 조회 SQL이 COLUMNS 순서로 projection 하므로 위치로 읽는다.
     public static final RowMapper<Customer> customerRowMapper = (rs, rowNum) -> new Customer(
-                    UUID.fromString(rs.getString(CUSTOMER_ID.getColumnName())),
-                    rs.getString(NAME.getColumnName())
+                    UuidStorage.read(rs, CUSTOMER_ID.getIndex()),
+                    rs.getString(NAME.getIndex())
     );
 
+    private static final ResultSetExtractor<Customer> singleCustomerExtractor =
+            rs -> rs.next() ? customerRowMapper.mapRow(rs, 0) : null;
+
+    private Object toParameter(UUID uuid) {
+        return properties.getUuidStorage().toParameter(uuid);
+    }
+
     @Override
     public Customer insert(Customer customer) {
-        final String sql = "INSERT INTO customers (customer_id, name) VALUES (:customer_id,:name)";
-        SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customer.getCustomerId().toString())
-                .addValue(NAME.getColumnName(), customer.getName());
+        Object id = toParameter(customer.getCustomerId());
         try {
-            jdbcTemplate.update(sql, parameters); // FAIL이 나올 수 있나?
+            jdbcOperations.update(INSERT_SQL, ps -> {
+                ps.setObject(1, id);
+                ps.setString(2, customer.getName());
+            }); // FAIL이 나올 수 있나?
             return customer;
         } catch (DuplicateKeyException e) {
             throw new DataAlreadyExistException(customer.getCustomerId().toString(), CUSTOMER);
@@ -50,33 +88,71 @@ public class JdbcCustomerRepository implements CustomerRepository {
 
     @Override
     public Optional<Customer> findById(UUID customerId) {
-        final String sql = "SELECT * FROM customers WHERE customer_id = :customer_id";
-        SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customerId.toString());
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, parameters, customerRowMapper));
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
+        Object id = toParameter(customerId);
+        return Optional.ofNullable(jdbcOperations.query(FIND_BY_ID_SQL, ps -> ps.setObject(1, id), singleCustomerExtractor));
+    }
+
+    // IN 목록이 너무 길어지지 않도록 batchSize 개씩 나눠서 조회한다.
+    @Override
+    public List<Customer> findAllById(Collection<UUID> customerIds) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(customerIds));
+        List<Customer> customers = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += properties.getBatchSize()) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + properties.getBatchSize(), distinctIds.size()));
+            SqlParameterSource parameter = new MapSqlParameterSource(CUSTOMER_IDS, chunk.stream()
+                    .map(this::toParameter)
+                    .toList());
+            customers.addAll(jdbcTemplate.query(FIND_ALL_BY_ID_SQL, parameter, customerRowMapper));
         }
+        return customers;
     }
 
     @Override
     public List<Customer> findAll() {
-        final String sql = "SELECT * FROM customers";
         try {
-            return jdbcTemplate.query(sql, customerRowMapper);
+            return jdbcOperations.query(FIND_ALL_SQL, customerRowMapper);
         } catch (EmptyResultDataAccessException e) {
             return List.of();
         }
     }
 
+    @Override
+    public List<Customer> findPage(UUID afterCustomerId, int limit) {
+        if (afterCustomerId == null) {
+            return jdbcOperations.query(FIRST_PAGE_SQL, ps -> ps.setInt(1, limit), customerRowMapper);
+        }
+        Object afterId = toParameter(afterCustomerId);
+        return jdbcOperations.query(NEXT_PAGE_SQL, ps -> {
+            ps.setObject(1, afterId);
+            ps.setInt(2, limit);
+        }, customerRowMapper);
+    }
+
+    // 'prefix%' 형태의 LIKE만 idx_customers_name(name, customer_id) 범위 검색이 된다.
+    @Override
+    public List<Customer> findByNamePrefix(String prefix, int limit) {
+        String pattern = escapeLike(prefix) + "%";
+        return jdbcOperations.query(FIND_BY_NAME_PREFIX_SQL, ps -> {
+            ps.setString(1, pattern);
+            ps.setInt(2, limit);
+        }, customerRowMapper);
+    }
+
+    // H2, MySQL 모두 LIKE의 기본 escape 문자가 백슬래시이다.
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     @Override
     public Customer update(Customer customer) {
-        final String sql = "UPDATE customers SET name = :name WHERE customer_id = :customer_id";
-        SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customer.getCustomerId().toString())
-                .addValue(NAME.getColumnName(), customer.getName());
-        if(jdbcTemplate.update(sql, parameters) == FAIL) {
+        Object id = toParameter(customer.getCustomerId());
+        int updated = jdbcOperations.update(UPDATE_SQL, ps -> {
+            ps.setString(1, customer.getName());
+            ps.setObject(2, id);
+        });
+        if(updated == FAIL) {
             throw new DataNotExistException(customer.getCustomerId().toString(), CUSTOMER);
         }
         return customer;
@@ -85,10 +161,8 @@ public class JdbcCustomerRepository implements CustomerRepository {
 
     @Override
     public void delete(UUID customerId) {
-        final String sql = "DELETE FROM customers WHERE customer_id = :customer_id";
-        SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customerId.toString());
-        if(jdbcTemplate.update(sql, parameters) == FAIL) {
+        Object id = toParameter(customerId);
+        if(jdbcOperations.update(DELETE_SQL, ps -> ps.setObject(1, id)) == FAIL) {
             throw new DataNotExistException(customerId.toString(), CUSTOMER);
         }
     }
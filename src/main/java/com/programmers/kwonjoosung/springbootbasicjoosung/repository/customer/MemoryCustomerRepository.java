@@ -0,0 +1,136 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/* 조회는 lock 없이 skip list를 읽고, 쓰기는 고객 단위 striped lock 안에서 storage와 이름 인덱스를 함께 바꾼다.
+ * 정렬 순서는 JDBC 저장소와 같다. (customer_id: UuidStorage.ORDER, 이름 검색: name, customer_id)
+ * 이름 비교는 MySQL 기본 collation(utf8mb4_0900_ai_ci)처럼 대소문자를 구분하지 않는다. (악센트 구분은 하므로 영문 기준으로만 같다)
+ */
+@Repository
+@Profile("local")
+public class MemoryCustomerRepository implements CustomerRepository {
+
+    private static final String CUSTOMER = "customer";
+    private static final int STRIPES = 64;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final Comparator<Customer> NAME_ORDER = Comparator.comparing(Customer::getName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Customer::getCustomerId, UuidStorage.ORDER);
+    private final NavigableMap<UUID, Customer> storage = new ConcurrentSkipListMap<>(UuidStorage.ORDER);
+    private final NavigableSet<Customer> nameIndex = new ConcurrentSkipListSet<>(NAME_ORDER);
+    private final Lock[] locks = new Lock[STRIPES];
+    private final List<Consumer<UUID>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    public MemoryCustomerRepository() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    private Lock lockOf(UUID customerId) {
+        return locks[(customerId.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    public void addDeleteListener(Consumer<UUID> listener) {
+        deleteListeners.add(listener);
+    }
+
+    @Override
+    public Customer insert(Customer customer) {
+        Lock lock = lockOf(customer.getCustomerId());
+        lock.lock();
+        try {
+            if (storage.putIfAbsent(customer.getCustomerId(), customer) != null) {
+                throw new DataAlreadyExistException(customer.getCustomerId().toString(), CUSTOMER);
+            }
+            nameIndex.add(customer);
+            return customer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID customerId) {
+        return Optional.ofNullable(storage.get(customerId));
+    }
+
+    @Override
+    public List<Customer> findAllById(Collection<UUID> customerIds) {
+        List<Customer> customers = new ArrayList<>(customerIds.size());
+        for (UUID customerId : customerIds) {
+            Customer customer = storage.get(customerId);
+            if (customer != null) {
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    @Override
+    public List<Customer> findAll() {
+        return new ArrayList<>(storage.values());
+    }
+
+    @Override
+    public List<Customer> findPage(UUID afterCustomerId, int limit) {
+        Collection<Customer> customers = afterCustomerId == null
+                ? storage.values()
+                : storage.tailMap(afterCustomerId, false).values();
+        return customers.stream().limit(limit).toList();
+    }
+
+    @Override
+    public List<Customer> findByNamePrefix(String prefix, int limit) {
+        return nameIndex.tailSet(new Customer(MIN_UUID, prefix), true).stream()
+                .takeWhile(customer -> customer.getName().regionMatches(true, 0, prefix, 0, prefix.length()))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Customer update(Customer customer) {
+        Lock lock = lockOf(customer.getCustomerId());
+        lock.lock();
+        try {
+            Customer old = storage.replace(customer.getCustomerId(), customer);
+            if (old == null) {
+                throw new DataNotExistException(customer.getCustomerId().toString(), CUSTOMER);
+            }
+            nameIndex.remove(old);
+            nameIndex.add(customer);
+            return customer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID customerId) {
+        Lock lock = lockOf(customerId);
+        lock.lock();
+        try {
+            Customer removed = storage.remove(customerId);
+            if (removed == null) {
+                throw new DataNotExistException(customerId.toString(), CUSTOMER);
+            }
+            nameIndex.remove(removed);
+        } finally {
+            lock.unlock();
+        }
+        deleteListeners.forEach(listener -> listener.accept(customerId));
+    }
+
+}
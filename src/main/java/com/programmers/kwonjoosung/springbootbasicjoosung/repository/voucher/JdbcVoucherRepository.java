@@ -1,64 +1,126 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
 
+import static com.programmers.kwonjoosung.springbootbasicjoosung.config.CachingConfig.VOUCHER_CACHE;
 import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.*;
-import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.DISCOUNT;
-import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.VOUCHER_TYPE;
 
 /* 예외 처리 및 Logging에 대해서 다시 생각해 보자!
  * AOP를 적용할 수도 있고, CustomException을 어떻게 활용할지..
- * SQL 명령어를 따로 빼는게 나을지?
+ * 파라미터 개수가 고정된 SQL은 상수로 두고 ? 위치에 바로 바인딩한다. (호출마다 Map, SQL 치환, PreparedStatementCreatorFactory를 만들지 않는다)
+ * IN 목록, 검색 조건처럼 모양이 바뀌는 SQL만 NamedParameterJdbcTemplate을 쓴다.
  */
 @Repository
+@Profile("!local")
+@CacheConfig(cacheNames = VOUCHER_CACHE)
 public class JdbcVoucherRepository implements VoucherRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcOperations jdbcOperations;
+    private final JdbcRepositoryProperties properties;
+    private final TransactionTemplate chunkTransaction;
     public static final String VOUCHER = "voucher";
     private static final int FAIL = 0;
+    private static final String LIMIT = "limit";
+    private static final String VOUCHER_IDS = "voucher_ids";
+    private static final String MIN_DISCOUNT = "min_discount";
+    private static final String MAX_DISCOUNT = "max_discount";
+    private static final String STATS_SQL = statsSql();
+    private static final String INSERT_SQL = "INSERT INTO vouchers(" + COLUMNS + ") VALUES (?, ?, ?, ?)";
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM vouchers";
+    private static final String FIND_ALL_BY_ID_SQL = "SELECT " + COLUMNS + " FROM vouchers WHERE voucher_id IN (:voucher_ids)";
+    private static final String FIND_BY_ID_SQL = "SELECT " + COLUMNS + " FROM vouchers WHERE voucher_id = ?";
+    private static final String FIND_BY_TYPE_SQL = "SELECT " + COLUMNS + " FROM vouchers WHERE voucher_type = ?";
+    private static final String FIRST_PAGE_SQL = "SELECT " + COLUMNS + " FROM vouchers ORDER BY voucher_id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = "SELECT " + COLUMNS + " FROM vouchers WHERE voucher_id > ? ORDER BY voucher_id LIMIT ?";
+    private static final String EXISTS_SQL = "SELECT 1 FROM vouchers WHERE voucher_id = ?";
+    private static final String UPDATE_SQL = "UPDATE vouchers SET voucher_type = ?, discount = ?, version = version + 1 "
+            + "WHERE voucher_id = ? AND version = ?";
+    private static final String DELETE_SQL = "DELETE FROM vouchers WHERE voucher_id = ?";
 
     public JdbcVoucherRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new JdbcRepositoryProperties());
+    }
+
+    // 스프링 밖(테스트, 벤치마크)에서 만들 때만 DataSource로 트랜잭션 매니저를 직접 만든다.
+    public JdbcVoucherRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcRepositoryProperties properties) {
+        this(jdbcTemplate, properties, new DataSourceTransactionManager(jdbcTemplate.getJdbcTemplate().getDataSource()));
+    }
+
+    @Autowired
+    public JdbcVoucherRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcRepositoryProperties properties,
+                                 PlatformTransactionManager transactionManager) {
         this.jdbcTemplate = jdbcTemplate;
+        this.jdbcOperations = jdbcTemplate.getJdbcOperations();
+        this.properties = properties;
+        // JdbcWalletRepository와 같이 chunk 단위로 커밋하고, 바깥 트랜잭션 안이라면 savepoint로 chunk만 되돌린다.
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
+    // 모든 조회 SQL이 COLUMNS 순서로 projection 하므로 행마다 컬럼 이름을 찾지 않고 위치로 읽는다.
     public static final RowMapper<Voucher> voucherRowMapper = (rs, rowNum) -> VoucherFactory.createVoucher(
-            VoucherType.of(rs.getString(VOUCHER_TYPE.getColumnName())),
-            UUID.fromString(rs.getString(VOUCHER_ID.getColumnName())),
-            rs.getLong(DISCOUNT.getColumnName()));
+            VoucherType.of(rs.getString(VOUCHER_TYPE.getIndex())),
+            UuidStorage.read(rs, VOUCHER_ID.getIndex()),
+            rs.getLong(DISCOUNT.getIndex()),
+            rs.getLong(VERSION.getIndex()));
+
+    // queryForObject와 달리 row가 없을 때 예외를 만들지 않는다.
+    private static final ResultSetExtractor<Voucher> singleVoucherExtractor =
+            rs -> rs.next() ? voucherRowMapper.mapRow(rs, 0) : null;
 
-    private static SqlParameterSource getFullSqlParametersSource(Voucher voucher) {
-        return new MapSqlParameterSource()
-                .addValue(VOUCHER_ID.getColumnName(), voucher.getVoucherId().toString())
-                .addValue(VOUCHER_TYPE.getColumnName(), voucher.getVoucherType().toString())
-                .addValue(DISCOUNT.getColumnName(), voucher.getDiscount());
+    // INSERT_SQL 순서 (voucher_id, voucher_type, discount, version)
+    private void setInsertParameters(PreparedStatement ps, Voucher voucher) throws SQLException {
+        ps.setObject(1, toParameter(voucher.getVoucherId()));
+        ps.setString(2, voucher.getVoucherType().toString());
+        ps.setLong(3, voucher.getDiscount());
+        ps.setLong(4, voucher.getVersion());
     }
 
-    private static SqlParameterSource getVoucherIdSqlParameterSource(UUID voucherId) {
-        return new MapSqlParameterSource()
-                .addValue(VOUCHER_ID.getColumnName(), voucherId.toString());
+    private Object toParameter(UUID uuid) {
+        return properties.getUuidStorage().toParameter(uuid);
     }
 
     @Override
     public Voucher insert(Voucher voucher) {
-        final String sql = "INSERT INTO vouchers(voucher_id, voucher_type, discount) VALUES (:voucher_id, :voucher_type, :discount)";
-        SqlParameterSource parameters = getFullSqlParametersSource(voucher);
         try {
-            jdbcTemplate.update(sql, parameters); // FAIL이 나올 수 있나?
+            jdbcOperations.update(INSERT_SQL, ps -> setInsertParameters(ps, voucher)); // FAIL이 나올 수 있나?
             return voucher;
         } catch (DuplicateKeyException e) {
             throw new DataAlreadyExistException(voucher.getVoucherId().toString(), VOUCHER);
@@ -66,53 +128,213 @@ public class JdbcVoucherRepository implements VoucherRepository {
     }
 
     @Override
-    public Optional<Voucher> findById(UUID voucherId) {
-        final String sql = "SELECT * FROM vouchers WHERE voucher_id = :voucher_id";
-        SqlParameterSource parameter = getVoucherIdSqlParameterSource(voucherId);
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, parameter, voucherRowMapper));
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty(); // 이렇게 굳이 하는 이유가 무엇일까? 예외를 던져도 되지 않나?
+    public List<UUID> insertAll(Collection<Voucher> vouchers) {
+        List<UUID> duplicatedIds = new ArrayList<>();
+        List<Voucher> chunk = new ArrayList<>(properties.getBatchSize());
+        for (Voucher voucher : vouchers) {
+            chunk.add(voucher);
+            if (chunk.size() == properties.getBatchSize()) {
+                duplicatedIds.addAll(insertChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            duplicatedIds.addAll(insertChunk(chunk));
         }
+        return duplicatedIds;
     }
 
-    @Override
-    public List<Voucher> findByType(VoucherType voucherType) {
-        final String sql = "SELECT * FROM vouchers WHERE voucher_type = :voucher_type";
-        SqlParameterSource parameter = new MapSqlParameterSource()
-                .addValue(VOUCHER_TYPE.getColumnName(), voucherType.toString());
+    // id는 서버에서 만든 random UUID라서 미리 존재 여부를 조회하지 않고 바로 batch로 저장한다.
+    private List<UUID> insertChunk(List<Voucher> chunk) {
         try {
-            return jdbcTemplate.query(sql, parameter, voucherRowMapper);
-        } catch (EmptyResultDataAccessException e) {
+            chunkTransaction.executeWithoutResult(status -> jdbcOperations.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setInsertParameters(ps, chunk.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chunk.size();
+                }
+            }));
             return List.of();
+        } catch (DuplicateKeyException e) {
+            // 중복된 id가 있으면 되돌려진 chunk만 한 건씩 다시 저장한다.
+            List<UUID> duplicatedIds = new ArrayList<>();
+            for (Voucher voucher : chunk) {
+                try {
+                    insert(voucher);
+                } catch (DataAlreadyExistException alreadyExist) {
+                    duplicatedIds.add(voucher.getVoucherId());
+                }
+            }
+            return duplicatedIds;
+        }
+    }
+
+    @Override
+    @Cacheable(key = "#voucherId", unless = "#result == null") // 없는 바우처는 캐시하지 않는다.
+    public Optional<Voucher> findById(UUID voucherId) {
+        Object id = toParameter(voucherId);
+        return Optional.ofNullable(jdbcOperations.query(FIND_BY_ID_SQL, ps -> ps.setObject(1, id), singleVoucherExtractor));
+    }
+
+    // IN 목록이 너무 길어지지 않도록 batchSize 개씩 나눠서 조회한다. (id 200개면 쿼리 1번)
+    @Override
+    public List<Voucher> findAllById(Collection<UUID> voucherIds) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(voucherIds));
+        List<Voucher> vouchers = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += properties.getBatchSize()) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + properties.getBatchSize(), distinctIds.size()));
+            SqlParameterSource parameter = new MapSqlParameterSource(VOUCHER_IDS, chunk.stream()
+                    .map(this::toParameter)
+                    .toList());
+            vouchers.addAll(jdbcTemplate.query(FIND_ALL_BY_ID_SQL, parameter, voucherRowMapper));
         }
+        return vouchers;
+    }
+
+    @Override
+    public List<Voucher> findByType(VoucherType voucherType) {
+        return jdbcOperations.query(FIND_BY_TYPE_SQL, ps -> ps.setString(1, voucherType.toString()), voucherRowMapper);
     }
 
     @Override
     public List<Voucher> findAll() {
-        final String sql = "SELECT * FROM vouchers";
         try {
-            return jdbcTemplate.query(sql, voucherRowMapper);
+            return jdbcOperations.query(FIND_ALL_SQL, voucherRowMapper);
         } catch (EmptyResultDataAccessException e) {
             return List.of();
         }
     }
 
     @Override
+    public List<Voucher> findPage(UUID afterVoucherId, int limit) {
+        if (afterVoucherId == null) {
+            return jdbcOperations.query(FIRST_PAGE_SQL, ps -> ps.setInt(1, limit), voucherRowMapper);
+        }
+        Object afterId = toParameter(afterVoucherId);
+        return jdbcOperations.query(NEXT_PAGE_SQL, ps -> {
+            ps.setObject(1, afterId);
+            ps.setInt(2, limit);
+        }, voucherRowMapper);
+    }
+
+    // 조건마다 정해진 SQL 조각만 이어 붙이고 값은 모두 파라미터로 바인딩한다.
+    // voucher_type을 지정하면 idx_vouchers_type_discount(voucher_type, discount) 순서로 읽고 끝난다.
+    @Override
+    public List<Voucher> search(VoucherSearchCondition condition) {
+        StringBuilder sql = new StringBuilder(FIND_ALL_SQL);
+        List<String> predicates = new ArrayList<>();
+        MapSqlParameterSource parameters = new MapSqlParameterSource(LIMIT, condition.getLimit());
+        if (condition.getVoucherType() != null) {
+            predicates.add("voucher_type = :voucher_type");
+            parameters.addValue(VOUCHER_TYPE.getColumnName(), condition.getVoucherType().toString());
+        }
+        if (condition.getMinDiscount() != null) {
+            predicates.add("discount >= :min_discount");
+            parameters.addValue(MIN_DISCOUNT, condition.getMinDiscount());
+        }
+        if (condition.getMaxDiscount() != null) {
+            predicates.add("discount <= :max_discount");
+            parameters.addValue(MAX_DISCOUNT, condition.getMaxDiscount());
+        }
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        sql.append(switch (condition.getSortOrder()) {
+            case DISCOUNT_ASC -> " ORDER BY discount ASC, voucher_id ASC";
+            case DISCOUNT_DESC -> " ORDER BY discount DESC, voucher_id DESC";
+        });
+        sql.append(" LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), parameters, voucherRowMapper);
+    }
+
+    // 타입과 히스토그램 구간으로 GROUP BY 한 결과(최대 타입 수 * 구간 수 row)를 타입별로 합친다.
+    @Override
+    public List<VoucherStats> getStats() {
+        long[] counts = new long[VoucherType.values().length];
+        long[] sums = new long[counts.length];
+        Long[] mins = new Long[counts.length];
+        Long[] maxes = new Long[counts.length];
+        long[][] histograms = new long[counts.length][VoucherStats.HISTOGRAM_BUCKETS];
+        jdbcTemplate.query(STATS_SQL, (RowCallbackHandler) rs -> {
+            // STATS_SQL의 SELECT 순서: voucher_type, bucket, voucher_count, sum_discount, min_discount, max_discount
+            int type = VoucherType.of(rs.getString(1)).ordinal();
+            long count = rs.getLong(3);
+            long min = rs.getLong(5);
+            long max = rs.getLong(6);
+            counts[type] += count;
+            sums[type] += rs.getLong(4);
+            mins[type] = mins[type] == null ? min : Math.min(mins[type], min);
+            maxes[type] = maxes[type] == null ? max : Math.max(maxes[type], max);
+            histograms[type][(int) Math.min(rs.getLong(2), VoucherStats.HISTOGRAM_BUCKETS - 1)] += count;
+        });
+        return Arrays.stream(VoucherType.values())
+                .map(type -> new VoucherStats(type, counts[type.ordinal()], sums[type.ordinal()],
+                        mins[type.ordinal()], maxes[type.ordinal()], histograms[type.ordinal()]))
+                .toList();
+    }
+
+    private static String statsSql() {
+        StringBuilder bucketWidth = new StringBuilder("CASE voucher_type");
+        for (VoucherType voucherType : VoucherType.values()) {
+            bucketWidth.append(" WHEN '").append(voucherType).append("' THEN ").append(VoucherStats.bucketWidth(voucherType));
+        }
+        String bucket = "FLOOR(discount / " + bucketWidth.append(" END") + ")";
+        return "SELECT voucher_type, " + bucket + " AS bucket, COUNT(*) AS voucher_count, SUM(discount) AS sum_discount, "
+                + "MIN(discount) AS min_discount, MAX(discount) AS max_discount "
+                + "FROM vouchers GROUP BY voucher_type, " + bucket;
+    }
+
+    @Override
+    public void streamAll(Consumer<Voucher> consumer) {
+        // 전체 결과를 메모리에 올리지 않도록 forward-only 커서로 fetch size 만큼씩 읽어온다. (MySQL은 useCursorFetch=true 필요)
+        PreparedStatementCreator statementCreator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            return statement;
+        };
+        jdbcOperations.query(statementCreator,
+                (RowCallbackHandler) rs -> consumer.accept(voucherRowMapper.mapRow(rs, 0)));
+    }
+
+    // 읽었던 version이 그대로일 때만 바꾸는 compare-and-set, 미리 row lock을 잡지 않는다.
+    // 충돌 뒤 다시 읽을 때 오래된 캐시를 보지 않도록 실패해도 캐시를 비운다.
+    // UPDATE 도중 다른 조회가 예전 row를 다시 캐시할 수 있어서 끝난 뒤에도 한 번 더 비운다.
+    @Override
+    @Caching(evict = {
+            @CacheEvict(key = "#voucher.voucherId", beforeInvocation = true),
+            @CacheEvict(key = "#voucher.voucherId")
+    })
     public Voucher update(Voucher voucher) {
-        final String sql = "UPDATE vouchers SET voucher_type = :voucher_type, discount = :discount WHERE voucher_id = :voucher_id";
-        SqlParameterSource parameters = getFullSqlParametersSource(voucher);
-        if(jdbcTemplate.update(sql, parameters) == FAIL) {
-            throw new DataNotExistException(voucher.getVoucherId().toString(), VOUCHER);
+        int updated = jdbcOperations.update(UPDATE_SQL, ps -> {
+            ps.setString(1, voucher.getVoucherType().toString());
+            ps.setLong(2, voucher.getDiscount());
+            ps.setObject(3, toParameter(voucher.getVoucherId()));
+            ps.setLong(4, voucher.getVersion());
+        });
+        if (updated == FAIL) {
+            if (!existsById(voucher.getVoucherId())) {
+                throw new DataNotExistException(voucher.getVoucherId().toString(), VOUCHER);
+            }
+            throw new VersionConflictException(voucher.getVoucherId().toString(), VOUCHER, voucher.getVersion());
         }
-        return voucher;
+        return VoucherFactory.createVoucher(voucher.getVoucherType(), voucher.getVoucherId(),
+                voucher.getDiscount(), voucher.getVersion() + 1);
+    }
+
+    private boolean existsById(UUID voucherId) {
+        Object id = toParameter(voucherId);
+        return Boolean.TRUE.equals(jdbcOperations.query(EXISTS_SQL, ps -> ps.setObject(1, id), ResultSet::next));
     }
 
     @Override
+    @CacheEvict(key = "#voucherId")
     public void deleteById(UUID voucherId) {
-        final String sql = "DELETE FROM vouchers WHERE voucher_id = :voucher_id";
-        SqlParameterSource parameter = getVoucherIdSqlParameterSource(voucherId);
-        if(jdbcTemplate.update(sql, parameter) == FAIL) {
+        Object id = toParameter(voucherId);
+        if(jdbcOperations.update(DELETE_SQL, ps -> ps.setObject(1, id)) == FAIL) {
             throw new DataNotExistException(voucherId.toString(), VOUCHER);
         }
     }
@@ -1,46 +1,282 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
+/* storage와 typeIndex(타입별 (discount, voucher_id) 순서 인덱스)를 함께 바꾸는 쓰기는 write lock으로 묶고,
+ * 여러 건을 읽는 조회는 read lock 안에서 복사해서 쓰기 도중의 상태가 보이지 않도록 한다.
+ * findById는 lock 없이 storage에서 바로 읽는다.
+ */
 @Repository
 @Profile("local")
 public class MemoryVoucherRepository implements VoucherRepository {
 
-    private final Map<UUID, Voucher> storage = new LinkedHashMap<>();
+    private static final String VOUCHER = "voucher";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L); // UuidStorage.ORDER(unsigned) 기준 최댓값
+    private static final Comparator<Voucher> DISCOUNT_ORDER = Comparator.comparing(DiscountKey::of, DiscountKey.ORDER);
+    private final ConcurrentNavigableMap<UUID, Voucher> storage = new ConcurrentSkipListMap<>(UuidStorage.ORDER);
+    private final Map<VoucherType, NavigableMap<DiscountKey, Voucher>> typeIndex = new EnumMap<>(VoucherType.class);
+    private final Map<VoucherType, StatsCounter> stats = new EnumMap<>(VoucherType.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Consumer<UUID>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    public MemoryVoucherRepository() {
+        for (VoucherType voucherType : VoucherType.values()) {
+            typeIndex.put(voucherType, new TreeMap<>(DiscountKey.ORDER));
+            stats.put(voucherType, new StatsCounter(voucherType));
+        }
+    }
+
+    // write lock 안에서만 호출한다.
+    private void index(Voucher voucher) {
+        typeIndex.get(voucher.getVoucherType()).put(DiscountKey.of(voucher), voucher);
+        stats.get(voucher.getVoucherType()).add(voucher.getDiscount());
+    }
+
+    private void unindex(Voucher voucher) {
+        typeIndex.get(voucher.getVoucherType()).remove(DiscountKey.of(voucher));
+        stats.get(voucher.getVoucherType()).remove(voucher.getDiscount());
+    }
+
+    // 지갑처럼 바우처를 참조하는 저장소가 ON DELETE CASCADE를 흉내 낼 수 있도록 삭제를 알려준다.
+    public void addDeleteListener(Consumer<UUID> listener) {
+        deleteListeners.add(listener);
+    }
 
     @Override
     public Voucher insert(Voucher voucher) {
-        return storage.put(voucher.getVoucherId(), voucher);
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (storage.putIfAbsent(voucher.getVoucherId(), voucher) != null) {
+                throw new DataAlreadyExistException(voucher.getVoucherId().toString(), VOUCHER);
+            }
+            index(voucher);
+            return voucher;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<UUID> insertAll(Collection<Voucher> vouchers) {
+        List<UUID> duplicatedIds = new ArrayList<>();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (Voucher voucher : vouchers) {
+                if (storage.putIfAbsent(voucher.getVoucherId(), voucher) != null) {
+                    duplicatedIds.add(voucher.getVoucherId());
+                    continue;
+                }
+                index(voucher);
+            }
+            return duplicatedIds;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public Optional<Voucher> findById(UUID voucherId) {
-        throw new UnsupportedOperationException();
+        return Optional.ofNullable(storage.get(voucherId));
+    }
+
+    @Override
+    public List<Voucher> findAllById(Collection<UUID> voucherIds) {
+        List<Voucher> vouchers = new ArrayList<>(voucherIds.size());
+        for (UUID voucherId : voucherIds) {
+            Voucher voucher = storage.get(voucherId);
+            if (voucher != null) {
+                vouchers.add(voucher);
+            }
+        }
+        return vouchers;
     }
 
     @Override
     public List<Voucher> findByType(VoucherType voucherType) {
-        throw new UnsupportedOperationException();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new ArrayList<>(typeIndex.get(voucherType).values());
+        } finally {
+            readLock.unlock();
+        }
     }
 
     @Override
     public List<Voucher> findAll() {
-        return new ArrayList<>(storage.values());
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new ArrayList<>(storage.values());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findPage(UUID afterVoucherId, int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Collection<Voucher> vouchers = afterVoucherId == null
+                    ? storage.values()
+                    : storage.tailMap(afterVoucherId, false).values();
+            return vouchers.stream().limit(limit).toList();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // 타입별 인덱스에서 할인 범위만 잘라 정렬 순서대로 limit 개를 읽고, 타입이 여러 개면 합쳐서 다시 자른다.
+    @Override
+    public List<Voucher> search(VoucherSearchCondition condition) {
+        Collection<VoucherType> voucherTypes = condition.getVoucherType() == null
+                ? typeIndex.keySet()
+                : List.of(condition.getVoucherType());
+        boolean descending = condition.getSortOrder() == VoucherSortOrder.DISCOUNT_DESC;
+        Comparator<Voucher> order = descending ? DISCOUNT_ORDER.reversed() : DISCOUNT_ORDER;
+        DiscountKey from = new DiscountKey(condition.getMinDiscount() == null ? Long.MIN_VALUE : condition.getMinDiscount(), MIN_UUID);
+        DiscountKey to = new DiscountKey(condition.getMaxDiscount() == null ? Long.MAX_VALUE : condition.getMaxDiscount(), MAX_UUID);
+        if (DiscountKey.ORDER.compare(from, to) > 0) {
+            return List.of();
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<Voucher> vouchers = new ArrayList<>();
+            for (VoucherType voucherType : voucherTypes) {
+                NavigableMap<DiscountKey, Voucher> range = typeIndex.get(voucherType).subMap(from, true, to, true);
+                (descending ? range.descendingMap() : range).values().stream()
+                        .limit(condition.getLimit())
+                        .forEach(vouchers::add);
+            }
+            if (voucherTypes.size() > 1) {
+                vouchers.sort(order);
+            }
+            return vouchers.stream().limit(condition.getLimit()).toList();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // 개수, 합계, 히스토그램은 쓰기마다 O(1)로 갱신하고, 최솟값/최댓값은 할인 순서 인덱스의 양 끝에서 읽는다.
+    @Override
+    public List<VoucherStats> getStats() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<VoucherStats> result = new ArrayList<>(stats.size());
+            for (StatsCounter counter : stats.values()) {
+                NavigableMap<DiscountKey, Voucher> vouchers = typeIndex.get(counter.voucherType);
+                result.add(new VoucherStats(counter.voucherType, counter.count, counter.sum,
+                        vouchers.isEmpty() ? null : vouchers.firstKey().discount(),
+                        vouchers.isEmpty() ? null : vouchers.lastKey().discount(),
+                        counter.histogram.clone()));
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static class StatsCounter {
+        private final VoucherType voucherType;
+        private final long[] histogram = new long[VoucherStats.HISTOGRAM_BUCKETS];
+        private long count;
+        private long sum;
+
+        private StatsCounter(VoucherType voucherType) {
+            this.voucherType = voucherType;
+        }
+
+        private void add(long discount) {
+            count++;
+            sum += discount;
+            histogram[VoucherStats.bucketOf(voucherType, discount)]++;
+        }
+
+        private void remove(long discount) {
+            count--;
+            sum -= discount;
+            histogram[VoucherStats.bucketOf(voucherType, discount)]--;
+        }
+    }
+
+    // typeIndex의 key (discount, voucher_id), 범위 검색 경계값도 이 key로 만든다.
+    private record DiscountKey(long discount, UUID voucherId) {
+
+        private static final Comparator<DiscountKey> ORDER = Comparator.comparingLong(DiscountKey::discount)
+                .thenComparing(DiscountKey::voucherId, UuidStorage.ORDER);
+
+        private static DiscountKey of(Voucher voucher) {
+            return new DiscountKey(voucher.getDiscount(), voucher.getVoucherId());
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<Voucher> consumer) {
+        // 내보내는 동안 쓰기를 막지 않도록 lock 없이 순회한다. (weakly consistent)
+        storage.values().forEach(consumer);
     }
 
     @Override
     public Voucher update(Voucher voucher) {
-        throw new UnsupportedOperationException();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Voucher oldVoucher = storage.get(voucher.getVoucherId());
+            if (oldVoucher == null) {
+                throw new DataNotExistException(voucher.getVoucherId().toString(), VOUCHER);
+            }
+            if (oldVoucher.getVersion() != voucher.getVersion()) {
+                throw new VersionConflictException(voucher.getVoucherId().toString(), VOUCHER, voucher.getVersion());
+            }
+            Voucher newVoucher = VoucherFactory.createVoucher(voucher.getVoucherType(), voucher.getVoucherId(),
+                    voucher.getDiscount(), voucher.getVersion() + 1);
+            storage.put(newVoucher.getVoucherId(), newVoucher);
+            unindex(oldVoucher);
+            index(newVoucher);
+            return newVoucher;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public void deleteById(UUID voucherId) {
-        throw new UnsupportedOperationException();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Voucher removed = storage.remove(voucherId);
+            if (removed == null) {
+                throw new DataNotExistException(voucherId.toString(), VOUCHER);
+            }
+            unindex(removed);
+        } finally {
+            writeLock.unlock();
+        }
+        deleteListeners.forEach(listener -> listener.accept(voucherId));
     }
 
 }
@@ -0,0 +1,142 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository.VOUCHER;
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.DISCOUNT;
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.VERSION;
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.VOUCHER_ID;
+import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.VOUCHER_TYPE;
+
+/* JdbcVoucherRepository와 같은 테이블, 같은 SQL을 R2DBC로 실행한다. (reactive 프로필)
+ * 목록 조회는 구독자가 요청한 만큼만 DB에서 읽고, 한 번에 최대 fetchSize 개씩 요청한다.
+ * 수정은 version compare-and-set 한 문장이라 트랜잭션 없이도 JDBC 저장소와 같은 결과가 나온다.
+ */
+@Repository
+@Profile("reactive")
+public class R2dbcVoucherRepository implements ReactiveVoucherRepository {
+
+    private final DatabaseClient databaseClient;
+    private final JdbcRepositoryProperties properties;
+    private static final int FAIL = 0;
+    private static final String SELECT_SQL = "SELECT " + VoucherTable.COLUMNS + " FROM vouchers";
+    private static final String INSERT_SQL = "INSERT INTO vouchers(" + VoucherTable.COLUMNS + ") VALUES (" + VoucherTable.columns(":") + ")"; // bindAll이 컬럼 이름으로 바인딩한다.
+    private static final String UPDATE_SQL = "UPDATE vouchers SET voucher_type = :voucher_type, discount = :discount, version = version + 1 "
+            + "WHERE voucher_id = :voucher_id AND version = :version";
+
+    public R2dbcVoucherRepository(DatabaseClient databaseClient) {
+        this(databaseClient, new JdbcRepositoryProperties());
+    }
+
+    @Autowired
+    public R2dbcVoucherRepository(DatabaseClient databaseClient, JdbcRepositoryProperties properties) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+    }
+
+    private static Voucher mapRow(Row row) {
+        return VoucherFactory.createVoucher(
+                VoucherType.of(row.get(VOUCHER_TYPE.getColumnName(), String.class)),
+                UuidStorage.read(row.get(VOUCHER_ID.getColumnName())),
+                row.get(DISCOUNT.getColumnName(), Long.class),
+                row.get(VERSION.getColumnName(), Long.class));
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindAll(String sql, Voucher voucher) {
+        return databaseClient.sql(sql)
+                .bind(VOUCHER_ID.getColumnName(), toParameter(voucher.getVoucherId()))
+                .bind(VOUCHER_TYPE.getColumnName(), voucher.getVoucherType().toString())
+                .bind(DISCOUNT.getColumnName(), voucher.getDiscount())
+                .bind(VERSION.getColumnName(), voucher.getVersion());
+    }
+
+    private Object toParameter(UUID uuid) {
+        return properties.getUuidStorage().toParameter(uuid);
+    }
+
+    @Override
+    public Mono<Voucher> insert(Voucher voucher) {
+        return bindAll(INSERT_SQL, voucher)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(voucher)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new DataAlreadyExistException(voucher.getVoucherId().toString(), VOUCHER));
+    }
+
+    @Override
+    public Mono<Voucher> findById(UUID voucherId) {
+        return databaseClient.sql(SELECT_SQL + " WHERE voucher_id = :voucher_id")
+                .bind(VOUCHER_ID.getColumnName(), toParameter(voucherId))
+                .map(R2dbcVoucherRepository::mapRow)
+                .one();
+    }
+
+    @Override
+    public Flux<Voucher> findByType(VoucherType voucherType) {
+        return databaseClient.sql(SELECT_SQL + " WHERE voucher_type = :voucher_type")
+                .bind(VOUCHER_TYPE.getColumnName(), voucherType.toString())
+                .map(R2dbcVoucherRepository::mapRow)
+                .all()
+                .limitRate(properties.getFetchSize());
+    }
+
+    @Override
+    public Flux<Voucher> findAll() {
+        return databaseClient.sql(SELECT_SQL)
+                .map(R2dbcVoucherRepository::mapRow)
+                .all()
+                .limitRate(properties.getFetchSize());
+    }
+
+    // JdbcVoucherRepository.update와 같은 compare-and-set, 0건이면 row가 있는지 보고 예외를 구분한다.
+    @Override
+    public Mono<Voucher> update(Voucher voucher) {
+        return bindAll(UPDATE_SQL, voucher)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == FAIL
+                        ? existsById(voucher.getVoucherId()).flatMap(exists -> Mono.error(exists
+                                ? new VersionConflictException(voucher.getVoucherId().toString(), VOUCHER, voucher.getVersion())
+                                : new DataNotExistException(voucher.getVoucherId().toString(), VOUCHER)))
+                        : Mono.just(VoucherFactory.createVoucher(voucher.getVoucherType(), voucher.getVoucherId(),
+                                voucher.getDiscount(), voucher.getVersion() + 1)));
+    }
+
+    private Mono<Boolean> existsById(UUID voucherId) {
+        return databaseClient.sql("SELECT COUNT(*) AS voucher_count FROM vouchers WHERE voucher_id = :voucher_id")
+                .bind(VOUCHER_ID.getColumnName(), toParameter(voucherId))
+                .map(row -> row.get("voucher_count", Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID voucherId) {
+        return databaseClient.sql("DELETE FROM vouchers WHERE voucher_id = :voucher_id")
+                .bind(VOUCHER_ID.getColumnName(), toParameter(voucherId))
+                .fetch()
+                .rowsUpdated()
+                .flatMap(deleted -> deleted == FAIL
+                        ? Mono.error(new DataNotExistException(voucherId.toString(), VOUCHER))
+                        : Mono.empty());
+    }
+
+}
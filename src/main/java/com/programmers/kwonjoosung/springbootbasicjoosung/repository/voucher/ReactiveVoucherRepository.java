@@ -0,0 +1,25 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+// VoucherRepository의 non-blocking 버전 (reactive 프로필), 예외는 같은 예외를 error 신호로 보낸다.
+public interface ReactiveVoucherRepository {
+
+    Mono<Voucher> insert(Voucher voucher);
+
+    Mono<Voucher> findById(UUID voucherId); // 없으면 빈 Mono
+
+    Flux<Voucher> findByType(VoucherType voucherType);
+
+    Flux<Voucher> findAll();
+
+    Mono<Voucher> update(Voucher voucher);
+
+    Mono<Void> deleteById(UUID voucherId);
+
+}
@@ -1,22 +1,38 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface VoucherRepository {
 
     Voucher insert(Voucher voucher);
 
+    List<UUID> insertAll(Collection<Voucher> vouchers); // 이미 존재해서 저장하지 못한 바우처 id 목록을 반환
+
     Optional<Voucher> findById(UUID voucherId);
 
+    List<Voucher> findAllById(Collection<UUID> voucherIds); // 없는 id는 결과에서 빠진다. (순서 보장 X)
+
     List<Voucher> findByType(VoucherType voucherType);
 
     List<Voucher> findAll();
 
+    List<Voucher> findPage(UUID afterVoucherId, int limit);
+
+    List<Voucher> search(VoucherSearchCondition condition);
+
+    // VoucherType 순서대로 모든 타입의 통계를 돌려준다. (바우처가 없는 타입 포함)
+    List<VoucherStats> getStats();
+
+    void streamAll(Consumer<Voucher> consumer);
+
     Voucher update(Voucher voucher);
 
     void deleteById(UUID voucherId);
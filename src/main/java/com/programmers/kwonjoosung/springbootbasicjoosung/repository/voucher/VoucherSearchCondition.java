@@ -0,0 +1,42 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+
+// null인 조건은 검색에 사용하지 않는다.
+public class VoucherSearchCondition {
+
+    private final VoucherType voucherType;
+    private final Long minDiscount;
+    private final Long maxDiscount;
+    private final VoucherSortOrder sortOrder;
+    private final int limit;
+
+    public VoucherSearchCondition(VoucherType voucherType, Long minDiscount, Long maxDiscount,
+                                  VoucherSortOrder sortOrder, int limit) {
+        this.voucherType = voucherType;
+        this.minDiscount = minDiscount;
+        this.maxDiscount = maxDiscount;
+        this.sortOrder = sortOrder;
+        this.limit = limit;
+    }
+
+    public VoucherType getVoucherType() {
+        return voucherType;
+    }
+
+    public Long getMinDiscount() {
+        return minDiscount;
+    }
+
+    public Long getMaxDiscount() {
+        return maxDiscount;
+    }
+
+    public VoucherSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,9 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
+
+// 할인값이 같으면 voucher_id 순서로 정렬해서 결과 순서가 항상 같다.
+public enum VoucherSortOrder {
+
+    DISCOUNT_ASC,
+    DISCOUNT_DESC
+
+}
@@ -1,10 +1,18 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// 선언 순서가 SELECT 절 컬럼 순서이다. RowMapper는 getIndex()로 위치를 읽는다.
 public enum VoucherTable {
 
     VOUCHER_ID("voucher_id"),
     VOUCHER_TYPE("voucher_type"),
-    DISCOUNT("discount");
+    DISCOUNT("discount"),
+    VERSION("version");
+
+    // getIndex()와 같은 순서가 되도록 선언 순서로 만든다.
+    public static final String COLUMNS = columns("");
 
     private final String columnName;
 
@@ -15,4 +23,16 @@ public enum VoucherTable {
     public String getColumnName() {
         return columnName;
     }
+
+    // JDBC 컬럼 번호는 1부터 시작한다.
+    public int getIndex() {
+        return ordinal() + 1;
+    }
+
+    // JOIN에서 쓸 때는 테이블 별칭을 붙인다. ex) columns("V.")
+    public static String columns(String prefix) {
+        return Arrays.stream(values())
+                .map(column -> prefix + column.getColumnName())
+                .collect(Collectors.joining(", "));
+    }
 }
@@ -1,45 +1,97 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet;
 
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerTable;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.UUID;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
 
-import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerTable.CUSTOMER_ID;
-import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherTable.VOUCHER_ID;
 import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.JdbcCustomerRepository.customerRowMapper;
 import static com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository.voucherRowMapper;
 
 
 @Repository
-public class JdbcWalletRepository {
+@Profile("!local")
+public class JdbcWalletRepository implements WalletRepository {
 
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcOperations jdbcOperations;
+    private final JdbcRepositoryProperties properties;
     private static final String WALLET = "wallet";
     private static final int FAIL = 0;
+    private static final String IDS = "ids";
+    private static final String SELECT_WALLET_VOUCHERS = "SELECT " + VoucherTable.columns("V.")
+            + " FROM wallets W JOIN vouchers V ON V.voucher_id = W.voucher_id ";
+    private static final String INSERT_SQL = "INSERT INTO wallets (customer_id, voucher_id) VALUES (?, ?)";
+    private static final String FIND_VOUCHERS_SQL = SELECT_WALLET_VOUCHERS + "WHERE W.customer_id = ?";
+    private static final String FIRST_VOUCHER_PAGE_SQL = SELECT_WALLET_VOUCHERS + "WHERE W.customer_id = ? ORDER BY W.voucher_id LIMIT ?";
+    private static final String NEXT_VOUCHER_PAGE_SQL = SELECT_WALLET_VOUCHERS + "WHERE W.customer_id = ? AND W.voucher_id > ? ORDER BY W.voucher_id LIMIT ?";
+    private static final String FIND_CUSTOMER_SQL = "SELECT " + CustomerTable.columns("C.") + " FROM wallets W JOIN customers C ON C.customer_id = W.customer_id WHERE W.voucher_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM wallets WHERE voucher_id = ?";
+    private static final String REDEEM_SQL = "UPDATE wallets SET used = TRUE, idempotency_key = ? "
+            + "WHERE customer_id = ? AND voucher_id = ? AND used = FALSE";
+    private static final String FIND_IDEMPOTENCY_KEY_SQL = "SELECT idempotency_key FROM wallets WHERE customer_id = ? AND voucher_id = ?";
+    private final TransactionTemplate chunkTransaction;
 
     public JdbcWalletRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new JdbcRepositoryProperties());
+    }
+
+    // 스프링 밖(테스트, 벤치마크)에서 만들 때만 DataSource로 트랜잭션 매니저를 직접 만든다.
+    public JdbcWalletRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcRepositoryProperties properties) {
+        this(jdbcTemplate, properties, new DataSourceTransactionManager(jdbcTemplate.getJdbcTemplate().getDataSource()));
+    }
+
+    @Autowired
+    public JdbcWalletRepository(NamedParameterJdbcTemplate jdbcTemplate, JdbcRepositoryProperties properties,
+                                PlatformTransactionManager transactionManager) {
         this.jdbcTemplate = jdbcTemplate;
+        this.jdbcOperations = jdbcTemplate.getJdbcOperations();
+        this.properties = properties;
+        // chunk 단위로 커밋한다. 바깥 @Transactional과 같은 매니저를 써야 그 안에서는 savepoint로 chunk만 되돌린다.
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
     }
 
+    private Object toParameter(UUID uuid) {
+        return properties.getUuidStorage().toParameter(uuid);
+    }
+
+    // (customer_id, voucher_id) 순서, 바우처는 한 지갑에만 들어갈 수 있다. (uk_wallets_voucher_id)
+    private void setWalletParameters(PreparedStatement ps, UUID customerId, UUID voucherId) throws SQLException {
+        ps.setObject(1, toParameter(customerId));
+        ps.setObject(2, toParameter(voucherId));
+    }
+
+    @Override
     public void insertToWallet(UUID customerId, UUID voucherId) {
-        final String sql = "INSERT INTO wallets (customer_id, voucher_id) VALUES (:customer_id, :voucher_id)";
-        SqlParameterSource parameters = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customerId.toString())
-                .addValue(VOUCHER_ID.getColumnName(), voucherId.toString());
         try {
-            jdbcTemplate.update(sql, parameters);
+            jdbcOperations.update(INSERT_SQL, ps -> setWalletParameters(ps, customerId, voucherId));
         } catch (DuplicateKeyException e) {
             throw new DataAlreadyExistException(voucherId.toString(), WALLET);
         } catch (DataIntegrityViolationException e) {
@@ -47,34 +99,152 @@ public class JdbcWalletRepository {
         }
     }
 
-    public List<Voucher> findVouchersByCustomerId(UUID customerId) {
-        final String sql = "SELECT * FROM wallets W JOIN vouchers V ON V.voucher_id = W.voucher_id WHERE customer_id = :customer_id ";
-        SqlParameterSource parameter = new MapSqlParameterSource()
-                .addValue(CUSTOMER_ID.getColumnName(), customerId.toString());
+    @Override
+    public List<AssignResult> insertAllToWallet(List<WalletEntry> entries) {
+        AssignResult[] results = new AssignResult[entries.size()];
+        Set<UUID> claimedVoucherIds = new HashSet<>(); // 이 요청에서 먼저 할당에 성공한 바우처
+        for (int from = 0; from < entries.size(); from += properties.getBatchSize()) {
+            int to = Math.min(from + properties.getBatchSize(), entries.size());
+            insertChunk(entries, from, to, results, claimedVoucherIds);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void insertChunk(List<WalletEntry> entries, int from, int to, AssignResult[] results, Set<UUID> claimedVoucherIds) {
+        List<WalletEntry> chunk = entries.subList(from, to);
+        Set<UUID> claimedBefore = new HashSet<>(claimedVoucherIds);
         try {
-            return jdbcTemplate.query(sql, parameter, voucherRowMapper);
-        } catch (EmptyResultDataAccessException e) {
-            return List.of();
+            chunkTransaction.executeWithoutResult(status -> classifyAndInsert(chunk, from, results, claimedVoucherIds));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 먼저 할당/삭제한 경우, 되돌려진 chunk만 한 건씩 다시 저장한다.
+            claimedVoucherIds.retainAll(claimedBefore);
+            for (int i = from; i < to; i++) {
+                results[i] = insertOne(entries.get(i));
+                if (results[i] == AssignResult.OK) {
+                    claimedVoucherIds.add(entries.get(i).getVoucherId());
+                }
+            }
         }
     }
 
-    public Customer findCustomerByVoucherId(UUID voucherId) {
-        final String sql = "SELECT * FROM wallets W JOIN customers C on C.customer_id = W.customer_id WHERE voucher_id = :voucher_id";
-        SqlParameterSource parameter = new MapSqlParameterSource()
-                .addValue(VOUCHER_ID.getColumnName(), voucherId.toString());
+    private void classifyAndInsert(List<WalletEntry> chunk, int offset, AssignResult[] results, Set<UUID> claimedVoucherIds) {
+        Set<UUID> customerIds = findExistingIds("SELECT customer_id FROM customers WHERE customer_id IN (:ids)",
+                chunk.stream().map(WalletEntry::getCustomerId).toList());
+        List<UUID> voucherIds = chunk.stream().map(WalletEntry::getVoucherId).toList();
+        Set<UUID> existingVoucherIds = findExistingIds("SELECT voucher_id FROM vouchers WHERE voucher_id IN (:ids)", voucherIds);
+        Set<UUID> assignedVoucherIds = findExistingIds("SELECT voucher_id FROM wallets WHERE voucher_id IN (:ids)", voucherIds);
+        List<WalletEntry> newEntries = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            WalletEntry entry = chunk.get(i);
+            if (!customerIds.contains(entry.getCustomerId()) || !existingVoucherIds.contains(entry.getVoucherId())) {
+                results[offset + i] = AssignResult.MISSING;
+            } else if (assignedVoucherIds.contains(entry.getVoucherId()) || !claimedVoucherIds.add(entry.getVoucherId())) {
+                results[offset + i] = AssignResult.DUPLICATE;
+            } else {
+                results[offset + i] = AssignResult.OK;
+                newEntries.add(entry);
+            }
+        }
+        jdbcOperations.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setWalletParameters(ps, newEntries.get(i).getCustomerId(), newEntries.get(i).getVoucherId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return newEntries.size();
+            }
+        });
+    }
+
+    // id 컬럼 하나만 SELECT 하는 sql을 받는다.
+    private Set<UUID> findExistingIds(String sql, List<UUID> ids) {
+        SqlParameterSource parameter = new MapSqlParameterSource(IDS, ids.stream().map(this::toParameter).toList());
+        return new HashSet<>(jdbcTemplate.query(sql, parameter, (rs, rowNum) -> UuidStorage.read(rs, 1)));
+    }
+
+    private AssignResult insertOne(WalletEntry entry) {
         try {
-            return jdbcTemplate.queryForObject(sql, parameter, customerRowMapper);
-        } catch (EmptyResultDataAccessException e) {
+            insertToWallet(entry.getCustomerId(), entry.getVoucherId());
+            return AssignResult.OK;
+        } catch (DataAlreadyExistException e) {
+            return AssignResult.DUPLICATE;
+        } catch (DataNotExistException e) {
+            return AssignResult.MISSING;
+        }
+    }
+
+    @Override
+    public List<Voucher> findVouchersByCustomerId(UUID customerId) {
+        Object id = toParameter(customerId);
+        return jdbcOperations.query(FIND_VOUCHERS_SQL, ps -> ps.setObject(1, id), voucherRowMapper);
+    }
+
+    // PK(customer_id, voucher_id) 순서대로 읽으므로 정렬 없이 limit 만큼만 조회한다.
+    @Override
+    public List<Voucher> findVoucherPageByCustomerId(UUID customerId, UUID afterVoucherId, int limit) {
+        Object id = toParameter(customerId);
+        if (afterVoucherId == null) {
+            return jdbcOperations.query(FIRST_VOUCHER_PAGE_SQL, ps -> {
+                ps.setObject(1, id);
+                ps.setInt(2, limit);
+            }, voucherRowMapper);
+        }
+        Object afterId = toParameter(afterVoucherId);
+        return jdbcOperations.query(NEXT_VOUCHER_PAGE_SQL, ps -> {
+            ps.setObject(1, id);
+            ps.setObject(2, afterId);
+            ps.setInt(3, limit);
+        }, voucherRowMapper);
+    }
+
+    @Override
+    public Customer findCustomerByVoucherId(UUID voucherId) {
+        Object id = toParameter(voucherId);
+        Customer customer = jdbcOperations.query(FIND_CUSTOMER_SQL, ps -> ps.setObject(1, id),
+                rs -> rs.next() ? customerRowMapper.mapRow(rs, 0) : null);
+        if (customer == null) {
             throw new DataNotExistException(voucherId.toString(), WALLET);
         }
+        return customer;
     }
 
+    @Override
     public void deleteVoucher(UUID voucherId) {
-        final String sql = "DELETE FROM wallets WHERE voucher_id = :voucher_id";
-        SqlParameterSource parameter = new MapSqlParameterSource()
-                .addValue(VOUCHER_ID.getColumnName(), voucherId.toString());
-        if (jdbcTemplate.update(sql, parameter) == FAIL) {
+        Object id = toParameter(voucherId);
+        if (jdbcOperations.update(DELETE_SQL, ps -> ps.setObject(1, id)) == FAIL) {
             throw new DataNotExistException(voucherId.toString(), WALLET);
         }
     }
+
+    // SELECT 없이 조건부 UPDATE 한 문장으로 사용 처리한다. 같은 바우처에 동시에 몰려도 한 요청만 1 row를 얻는다.
+    @Override
+    public RedeemResult redeem(UUID customerId, UUID voucherId, String idempotencyKey) {
+        Object customer = toParameter(customerId);
+        Object voucher = toParameter(voucherId);
+        int updated = jdbcOperations.update(REDEEM_SQL, ps -> {
+            ps.setString(1, idempotencyKey);
+            ps.setObject(2, customer);
+            ps.setObject(3, voucher);
+        });
+        if (updated != FAIL) {
+            return RedeemResult.REDEEMED;
+        }
+        return findRedeemFailure(customer, voucher, idempotencyKey);
+    }
+
+    // 바뀐 row가 없을 때만 이유를 확인한다. (지갑에 없음 / 이미 사용됨 / 같은 key의 재시도)
+    private RedeemResult findRedeemFailure(Object customer, Object voucher, String idempotencyKey) {
+        List<String> usedKeys = jdbcOperations.query(FIND_IDEMPOTENCY_KEY_SQL, ps -> {
+            ps.setObject(1, customer);
+            ps.setObject(2, voucher);
+        }, (rs, rowNum) -> rs.getString(1));
+        if (usedKeys.isEmpty()) {
+            return RedeemResult.MISSING;
+        }
+        return idempotencyKey != null && idempotencyKey.equals(usedKeys.get(0))
+                ? RedeemResult.REDEEMED
+                : RedeemResult.ALREADY_USED;
+    }
 }
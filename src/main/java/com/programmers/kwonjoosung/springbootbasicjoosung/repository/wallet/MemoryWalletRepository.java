@@ -0,0 +1,197 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.UuidStorage;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.MemoryCustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* customerId -> voucherIds, voucherId -> customerId 두 인덱스를 고객 단위 striped lock으로 함께 바꾼다.
+ * 고객/바우처가 삭제되면 delete listener로 지갑에서도 지워서 schema.sql의 ON DELETE CASCADE와 같게 동작한다.
+ * 제약 조건을 바꿀 때는 schema.sql, db/*.sql 마이그레이션과 이 저장소를 함께 바꾼다.
+ */
+@Repository
+@Profile("local")
+public class MemoryWalletRepository implements WalletRepository {
+
+    private static final String WALLET = "wallet";
+    private static final int STRIPES = 64;
+    private static final String NO_KEY = ""; // key 없이 사용 처리된 바우처 (ConcurrentHashMap은 null 값을 못 넣는다)
+    private final MemoryCustomerRepository customerRepository;
+    private final MemoryVoucherRepository voucherRepository;
+    private final ConcurrentMap<UUID, NavigableSet<UUID>> vouchersByCustomer = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, UUID> customerByVoucher = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, String> redeemedVouchers = new ConcurrentHashMap<>(); // voucherId -> 사용한 요청의 key
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public MemoryWalletRepository(MemoryCustomerRepository customerRepository, MemoryVoucherRepository voucherRepository) {
+        this.customerRepository = customerRepository;
+        this.voucherRepository = voucherRepository;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        customerRepository.addDeleteListener(this::deleteCustomer);
+        voucherRepository.addDeleteListener(this::deleteVoucherIfExist);
+    }
+
+    private Lock lockOf(UUID customerId) {
+        return locks[(customerId.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    @Override
+    public void insertToWallet(UUID customerId, UUID voucherId) {
+        switch (tryInsert(customerId, voucherId)) {
+            case DUPLICATE -> throw new DataAlreadyExistException(voucherId.toString(), WALLET);
+            case MISSING -> throw new DataNotExistException();
+        }
+    }
+
+    @Override
+    public List<AssignResult> insertAllToWallet(List<WalletEntry> entries) {
+        List<AssignResult> results = new ArrayList<>(entries.size());
+        for (WalletEntry entry : entries) {
+            results.add(tryInsert(entry.getCustomerId(), entry.getVoucherId()));
+        }
+        return results;
+    }
+
+    // 대량 할당에서 실패한 쌍마다 예외(에러 로그)를 만들지 않도록 결과로 돌려준다.
+    private AssignResult tryInsert(UUID customerId, UUID voucherId) {
+        Lock lock = lockOf(customerId);
+        lock.lock();
+        try {
+            if (customerRepository.findById(customerId).isEmpty() || voucherRepository.findById(voucherId).isEmpty()) {
+                return AssignResult.MISSING;
+            }
+            // schema.sql의 PRIMARY KEY(customer_id, voucher_id) + uk_wallets_voucher_id와 같다. (같은 고객이든 다른 고객이든 두 번째는 DUPLICATE)
+            if (customerByVoucher.putIfAbsent(voucherId, customerId) != null) {
+                return AssignResult.DUPLICATE;
+            }
+            vouchersByCustomer.computeIfAbsent(customerId, id -> new ConcurrentSkipListSet<>(UuidStorage.ORDER)).add(voucherId);
+            // 확인 직후 바우처가 삭제되어 cascade를 놓쳤다면 되돌린다.
+            if (voucherRepository.findById(voucherId).isEmpty()) {
+                remove(customerId, voucherId);
+                return AssignResult.MISSING;
+            }
+            return AssignResult.OK;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Voucher> findVouchersByCustomerId(UUID customerId) {
+        return toVouchers(vouchersByCustomer.getOrDefault(customerId, Collections.emptyNavigableSet()), Integer.MAX_VALUE);
+    }
+
+    // JDBC 저장소와 같은 순서(UuidStorage.ORDER)로 afterVoucherId 다음부터 조회한다.
+    @Override
+    public List<Voucher> findVoucherPageByCustomerId(UUID customerId, UUID afterVoucherId, int limit) {
+        NavigableSet<UUID> voucherIds = vouchersByCustomer.getOrDefault(customerId, Collections.emptyNavigableSet());
+        return toVouchers(afterVoucherId == null ? voucherIds : voucherIds.tailSet(afterVoucherId, false), limit);
+    }
+
+    private List<Voucher> toVouchers(Set<UUID> voucherIds, int limit) {
+        List<Voucher> vouchers = new ArrayList<>(Math.min(voucherIds.size(), limit));
+        for (UUID voucherId : voucherIds) {
+            if (vouchers.size() == limit) {
+                break;
+            }
+            voucherRepository.findById(voucherId).ifPresent(vouchers::add);
+        }
+        return vouchers;
+    }
+
+    @Override
+    public Customer findCustomerByVoucherId(UUID voucherId) {
+        return Optional.ofNullable(customerByVoucher.get(voucherId))
+                .flatMap(customerRepository::findById)
+                .orElseThrow(() -> new DataNotExistException(voucherId.toString(), WALLET));
+    }
+
+    @Override
+    public void deleteVoucher(UUID voucherId) {
+        if (!deleteVoucherIfExist(voucherId)) {
+            throw new DataNotExistException(voucherId.toString(), WALLET);
+        }
+    }
+
+    private boolean deleteVoucherIfExist(UUID voucherId) {
+        UUID customerId = customerByVoucher.get(voucherId);
+        if (customerId == null) {
+            return false;
+        }
+        Lock lock = lockOf(customerId);
+        lock.lock();
+        try {
+            return remove(customerId, voucherId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 지갑 확인과 사용 처리를 고객 lock 안에서 함께 해서 삭제/재할당과 섞이지 않게 한다.
+    @Override
+    public RedeemResult redeem(UUID customerId, UUID voucherId, String idempotencyKey) {
+        String key = idempotencyKey == null ? NO_KEY : idempotencyKey;
+        Lock lock = lockOf(customerId);
+        lock.lock();
+        try {
+            if (!customerId.equals(customerByVoucher.get(voucherId))) {
+                return RedeemResult.MISSING;
+            }
+            String usedKey = redeemedVouchers.putIfAbsent(voucherId, key);
+            if (usedKey == null || (!NO_KEY.equals(key) && key.equals(usedKey))) {
+                return RedeemResult.REDEEMED;
+            }
+            return RedeemResult.ALREADY_USED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deleteCustomer(UUID customerId) {
+        Lock lock = lockOf(customerId);
+        lock.lock();
+        try {
+            Set<UUID> voucherIds = vouchersByCustomer.remove(customerId);
+            if (voucherIds != null) {
+                voucherIds.forEach(voucherId -> {
+                    customerByVoucher.remove(voucherId, customerId);
+                    redeemedVouchers.remove(voucherId);
+                });
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean remove(UUID customerId, UUID voucherId) {
+        if (!customerByVoucher.remove(voucherId, customerId)) {
+            return false;
+        }
+        redeemedVouchers.remove(voucherId); // 지갑에서 빠지면 사용 기록도 row와 함께 사라진다.
+        Set<UUID> voucherIds = vouchersByCustomer.get(customerId);
+        if (voucherIds != null) {
+            voucherIds.remove(voucherId);
+            if (voucherIds.isEmpty()) {
+                vouchersByCustomer.remove(customerId);
+            }
+        }
+        return true;
+    }
+}
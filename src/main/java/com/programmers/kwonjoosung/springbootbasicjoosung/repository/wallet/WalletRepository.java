@@ -0,0 +1,31 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WalletRepository {
+
+    void insertToWallet(UUID customerId, UUID voucherId);
+
+    // 한 쌍이 실패해도 나머지는 저장하고, 입력 순서대로 결과를 돌려준다.
+    List<AssignResult> insertAllToWallet(List<WalletEntry> entries);
+
+    List<Voucher> findVouchersByCustomerId(UUID customerId);
+
+    // voucher_id 순서의 keyset 페이지, afterVoucherId가 null이면 첫 페이지
+    List<Voucher> findVoucherPageByCustomerId(UUID customerId, UUID afterVoucherId, int limit);
+
+    Customer findCustomerByVoucherId(UUID voucherId);
+
+    void deleteVoucher(UUID voucherId);
+
+    // 아직 사용하지 않은 지갑 바우처를 한 번만 사용 처리한다. idempotencyKey는 null 가능
+    RedeemResult redeem(UUID customerId, UUID voucherId, String idempotencyKey);
+
+}
@@ -0,0 +1,145 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.CampaignProperties;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateCampaignRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.CampaignStatusDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.campaign.CampaignJob;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+@Service
+public class CampaignService {
+
+    private static final String CAMPAIGN = "campaign";
+    private final VoucherRepository voucherRepository;
+    private final CampaignProperties properties;
+    private final ExecutorService campaignExecutor;
+    private final ExecutorService generatorExecutor;
+    private final Cache<UUID, CampaignJob> jobs;
+
+    @Autowired
+    public CampaignService(VoucherRepository voucherRepository, CampaignProperties properties) {
+        this(voucherRepository, properties,
+                new ThreadPoolExecutor(
+                        properties.getPoolSize(), properties.getPoolSize(), 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.getQueueCapacity()), // 대기열이 가득 차면 RejectedExecutionException
+                        new CustomizableThreadFactory("campaign-")),
+                // 실행 중인 캠페인마다 생성 작업은 최대 1개라서 poolSize 스레드면 기다리지 않는다.
+                // campaignExecutor를 같이 쓰면 대기 중인 캠페인 뒤에 생성 작업이 밀려 join()이 풀리지 않는다.
+                Executors.newFixedThreadPool(properties.getPoolSize(), new CustomizableThreadFactory("campaign-generator-")));
+    }
+
+    CampaignService(VoucherRepository voucherRepository, CampaignProperties properties,
+                    ExecutorService campaignExecutor, ExecutorService generatorExecutor) {
+        this.voucherRepository = voucherRepository;
+        this.properties = properties;
+        this.campaignExecutor = campaignExecutor;
+        this.generatorExecutor = generatorExecutor;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(finishedJobExpiry(properties.getFinishedJobRetention().toNanos()))
+                .build();
+    }
+
+    // 대기, 실행 중인 캠페인은 만료시키지 않고, 끝난 뒤 다시 put 된 시점부터 retention이 지나면 지운다.
+    private static Expiry<UUID, CampaignJob> finishedJobExpiry(long retentionNanos) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(UUID jobId, CampaignJob job, long currentTime) {
+                return job.isFinished() ? retentionNanos : Long.MAX_VALUE;
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID jobId, CampaignJob job, long currentTime, long currentDuration) {
+                return expireAfterCreate(jobId, job, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(UUID jobId, CampaignJob job, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    public CampaignStatusDto startCampaign(CreateCampaignRequest request) {
+        VoucherType voucherType = VoucherType.valueOf(request.getVoucherType());
+        VoucherFactory.createVoucher(voucherType, request.getDiscount()); // 할인 범위를 발급 전에 미리 검증한다.
+        if (request.getCount() <= 0 || request.getCount() > properties.getMaxCount()) {
+            throw new IllegalArgumentException("The count is 1 or more and " + properties.getMaxCount() + " or less.");
+        }
+        CampaignJob job = new CampaignJob(voucherType, request.getDiscount(), request.getCount());
+        jobs.put(job.getJobId(), job);
+        try {
+            campaignExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getJobId());
+            throw e;
+        }
+        return new CampaignStatusDto(job);
+    }
+
+    public CampaignStatusDto findCampaign(UUID jobId) {
+        CampaignJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new DataNotExistException(jobId.toString(), CAMPAIGN);
+        }
+        return new CampaignStatusDto(job);
+    }
+
+    private void run(CampaignJob job) {
+        job.start();
+        try {
+            long remaining = job.getRequestedCount();
+            // 바우처 생성(CPU)과 저장(DB)을 겹쳐서 다음 batch를 만드는 동안 이전 batch를 저장한다.
+            CompletableFuture<List<Voucher>> nextBatch = generateAsync(job, remaining);
+            while (remaining > 0) {
+                List<Voucher> batch = nextBatch.join();
+                remaining -= batch.size();
+                if (remaining > 0) {
+                    nextBatch = generateAsync(job, remaining);
+                }
+                List<UUID> duplicatedIds = voucherRepository.insertAll(batch);
+                job.addResult(batch.size() - duplicatedIds.size(), duplicatedIds.size());
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+        } catch (Error e) {
+            job.fail(e.toString()); // OOM 등으로 RUNNING에 남으면 만료되지 않으므로 실패로 끝내고 다시 던진다.
+            throw e;
+        } finally {
+            jobs.put(job.getJobId(), job); // 끝난 시점부터 만료 시간을 센다.
+        }
+    }
+
+    private CompletableFuture<List<Voucher>> generateAsync(CampaignJob job, long remaining) {
+        int size = (int) Math.min(properties.getBatchSize(), remaining);
+        return CompletableFuture.supplyAsync(() -> {
+            List<Voucher> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(VoucherFactory.createVoucher(job.getVoucherType(), job.getDiscount()));
+            }
+            return batch;
+        }, generatorExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        campaignExecutor.shutdown();
+        generatorExecutor.shutdown();
+    }
+}
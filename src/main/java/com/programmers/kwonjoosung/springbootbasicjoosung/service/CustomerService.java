@@ -1,18 +1,26 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.BatchGetCustomerResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.CustomerPageDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class CustomerService {
 
     private static final String CUSTOMER = "customer";
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_SIZE = 100;
     private final CustomerRepository customerRepository;
 
     public CustomerService(CustomerRepository customerRepository) {
@@ -29,6 +37,28 @@ public class CustomerService {
                 .orElseThrow(() -> new DataNotExistException(customerId.toString(), CUSTOMER));
     }
 
+    // id 목록을 한 번에 조회하고, 응답은 요청한 id 순서로 맞춘다.
+    public BatchGetCustomerResponse findCustomers(List<UUID> customerIds) {
+        if (customerIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The number of customerIds is " + MAX_PAGE_SIZE + " or less.");
+        }
+        Map<UUID, Customer> customers = new HashMap<>();
+        for (Customer customer : customerRepository.findAllById(customerIds)) {
+            customers.put(customer.getCustomerId(), customer);
+        }
+        List<CustomerDto> found = new ArrayList<>(customers.size());
+        List<String> missingCustomerIds = new ArrayList<>();
+        for (UUID customerId : new LinkedHashSet<>(customerIds)) {
+            Customer customer = customers.get(customerId);
+            if (customer == null) {
+                missingCustomerIds.add(customerId.toString());
+            } else {
+                found.add(new CustomerDto(customer));
+            }
+        }
+        return new BatchGetCustomerResponse(found, missingCustomerIds);
+    }
+
     public List<CustomerDto> getAllCustomers() {
         return customerRepository.findAll()
                 .stream()
@@ -36,6 +66,25 @@ public class CustomerService {
                 .toList();
     }
 
+    public CustomerPageDto getCustomerPage(UUID afterCustomerId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Customer> customers = customerRepository.findPage(afterCustomerId, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        boolean hasNext = customers.size() > pageSize;
+        List<CustomerDto> page = customers.stream().limit(pageSize).map(CustomerDto::new).toList();
+        String nextCursor = hasNext ? page.get(page.size() - 1).getCustomerId() : null;
+        return new CustomerPageDto(page, nextCursor);
+    }
+
+    public List<CustomerDto> searchCustomers(String namePrefix, int limit) {
+        if (namePrefix.isBlank()) {
+            return List.of(); // 빈 prefix는 전체 조회가 되므로 막는다.
+        }
+        return customerRepository.findByNamePrefix(namePrefix, Math.min(Math.max(limit, 1), MAX_SEARCH_SIZE))
+                .stream()
+                .map(CustomerDto::new)
+                .toList();
+    }
+
     public CustomerDto updateCustomer(UUID customerId, String customerName) {
         return new CustomerDto(customerRepository.update(new Customer(customerId, customerName)));
     }
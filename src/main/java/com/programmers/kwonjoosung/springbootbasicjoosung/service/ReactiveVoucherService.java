@@ -0,0 +1,68 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.service;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.ReactiveVoucherRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.programmers.kwonjoosung.springbootbasicjoosung.service.VoucherService.VOUCHER;
+
+// VoucherService의 읽기/쓰기 API를 Mono/Flux로 제공한다. (reactive 프로필)
+@Service
+@Profile("reactive")
+public class ReactiveVoucherService {
+
+    private final ReactiveVoucherRepository voucherRepository;
+
+    public ReactiveVoucherService(ReactiveVoucherRepository voucherRepository) {
+        this.voucherRepository = voucherRepository;
+    }
+
+    public Mono<VoucherDto> saveVoucher(CreateVoucherRequest request) {
+        return Mono.fromSupplier(() -> VoucherFactory.createVoucher(VoucherType.valueOf(request.getVoucherType()), request.getDiscount()))
+                .flatMap(voucherRepository::insert)
+                .map(VoucherDto::new);
+    }
+
+    public Mono<VoucherDto> findVoucher(UUID voucherId) {
+        return findCurrent(voucherId).map(VoucherDto::new);
+    }
+
+    public Flux<VoucherDto> findVoucher(VoucherType voucherType) {
+        return voucherRepository.findByType(voucherType).map(VoucherDto::new);
+    }
+
+    public Flux<VoucherDto> getAllVouchers() {
+        return voucherRepository.findAll().map(VoucherDto::new);
+    }
+
+    // VoucherService.updateVoucher와 같이 기대 version이 없으면 지금 읽은 version을 기준으로 바꾼다.
+    public Mono<VoucherDto> updateVoucher(UUID voucherId, VoucherType voucherType, long discount) {
+        return findCurrent(voucherId)
+                .flatMap(current -> updateVoucher(voucherId, voucherType, discount, current.getVersion()));
+    }
+
+    public Mono<VoucherDto> updateVoucher(UUID voucherId, VoucherType voucherType, long discount, long expectedVersion) {
+        return Mono.fromSupplier(() -> VoucherFactory.createVoucher(voucherType, voucherId, discount, expectedVersion))
+                .flatMap(voucherRepository::update)
+                .map(VoucherDto::new);
+    }
+
+    public Mono<Void> deleteVoucher(UUID voucherId) {
+        return voucherRepository.deleteById(voucherId);
+    }
+
+    private Mono<Voucher> findCurrent(UUID voucherId) {
+        return voucherRepository.findById(voucherId)
+                .switchIfEmpty(Mono.error(() -> new DataNotExistException(voucherId.toString(), VOUCHER)));
+    }
+}
@@ -1,22 +1,44 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.PriceBatchRequest;
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherSearchRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.BatchGetVoucherResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.BulkCreateVoucherResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.PriceBatchResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherStatsDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.OutOfRangeException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSearchCondition;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSortOrder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 
 @Service
 public class VoucherService {
     public static final String VOUCHER = "voucher";
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_PRICE_BATCH_SIZE = 10_000;
+    private static final int DEFAULT_SEARCH_SIZE = 100;
     private final VoucherRepository voucherRepository;
 
     public VoucherService(VoucherRepository voucherRepository) {
@@ -28,12 +50,59 @@ public class VoucherService {
         return new VoucherDto(voucherRepository.insert(voucher));
     }
 
+    // 잘못된 항목과 저장하지 못한 항목은 응답에 따로 알려주고, 나머지는 그대로 저장한다.
+    public BulkCreateVoucherResponse saveVouchers(List<CreateVoucherRequest> requests) {
+        List<Voucher> vouchers = new ArrayList<>(requests.size());
+        List<Integer> invalidIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateVoucherRequest request = requests.get(i);
+            if (request.getVoucherType() == null) {
+                invalidIndexes.add(i);
+                continue;
+            }
+            try {
+                vouchers.add(VoucherFactory.createVoucher(VoucherType.valueOf(request.getVoucherType()), request.getDiscount()));
+            } catch (IllegalArgumentException | OutOfRangeException e) {
+                invalidIndexes.add(i); // 없는 바우처 타입이거나 할인 범위를 벗어난 요청
+            }
+        }
+        List<UUID> failedIds = vouchers.isEmpty() ? List.of() : voucherRepository.insertAll(vouchers);
+        if (!failedIds.isEmpty()) {
+            Set<UUID> failed = new HashSet<>(failedIds);
+            vouchers.removeIf(voucher -> failed.contains(voucher.getVoucherId()));
+        }
+        return new BulkCreateVoucherResponse(vouchers.stream().map(VoucherDto::new).toList(),
+                failedIds.stream().map(UUID::toString).toList(), invalidIndexes);
+    }
+
     public VoucherDto findVoucher(UUID voucherId) {
         return voucherRepository.findById(voucherId)
                 .map(VoucherDto::new)
                 .orElseThrow(() -> new DataNotExistException(voucherId.toString(), VOUCHER)); // Repository에서 해도 되지 않나?
     }
 
+    // id 목록을 한 번에 조회하고, 응답은 요청한 id 순서로 맞춘다.
+    public BatchGetVoucherResponse findVouchers(List<UUID> voucherIds) {
+        if (voucherIds.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The number of voucherIds is " + MAX_PAGE_SIZE + " or less.");
+        }
+        Map<UUID, Voucher> vouchers = new HashMap<>();
+        for (Voucher voucher : voucherRepository.findAllById(voucherIds)) {
+            vouchers.put(voucher.getVoucherId(), voucher);
+        }
+        List<VoucherDto> found = new ArrayList<>(vouchers.size());
+        List<String> missingVoucherIds = new ArrayList<>();
+        for (UUID voucherId : new LinkedHashSet<>(voucherIds)) {
+            Voucher voucher = vouchers.get(voucherId);
+            if (voucher == null) {
+                missingVoucherIds.add(voucherId.toString());
+            } else {
+                found.add(new VoucherDto(voucher));
+            }
+        }
+        return new BatchGetVoucherResponse(found, missingVoucherIds);
+    }
+
     public List<VoucherDto> findVoucher(VoucherType voucherType) {
         List<Voucher> vouchers = voucherRepository.findByType(voucherType);
         return vouchers.stream().map(VoucherDto::new).toList();
@@ -44,8 +113,87 @@ public class VoucherService {
         return vouchers.stream().map(VoucherDto::new).toList();
     }
 
+    public VoucherPageDto getVoucherPage(UUID afterVoucherId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Voucher> vouchers = voucherRepository.findPage(afterVoucherId, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        boolean hasNext = vouchers.size() > pageSize;
+        List<VoucherDto> page = vouchers.stream().limit(pageSize).map(VoucherDto::new).toList();
+        String nextCursor = hasNext ? page.get(page.size() - 1).getVoucherId() : null;
+        return new VoucherPageDto(page, nextCursor);
+    }
+
+    public List<VoucherDto> searchVouchers(VoucherSearchRequest request) {
+        VoucherType voucherType = request.getVoucherType() == null ? null : VoucherType.of(request.getVoucherType());
+        VoucherSortOrder sortOrder = request.getSort() == null ? VoucherSortOrder.DISCOUNT_ASC : toSortOrder(request.getSort());
+        int limit = request.getLimit() == null ? DEFAULT_SEARCH_SIZE : Math.min(Math.max(request.getLimit(), 1), MAX_PAGE_SIZE);
+        VoucherSearchCondition condition = new VoucherSearchCondition(
+                voucherType, request.getMinDiscount(), request.getMaxDiscount(), sortOrder, limit);
+        return voucherRepository.search(condition).stream()
+                .map(VoucherDto::new)
+                .toList();
+    }
+
+    private static VoucherSortOrder toSortOrder(String sort) {
+        try {
+            return VoucherSortOrder.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The sort is one of " + Arrays.toString(VoucherSortOrder.values()) + " -> " + sort, e);
+        }
+    }
+
+    // 바우처는 IN 쿼리 한 번으로 가져오고, 금액 계산은 long 배열 위에서 박싱 없이 한다.
+    public PriceBatchResponse priceVouchers(PriceBatchRequest request) {
+        UUID[] voucherIds = request.getVoucherIds();
+        long[] amounts = request.getAmounts();
+        checkPriceBatch(voucherIds, amounts);
+        Map<UUID, Voucher> vouchers = new HashMap<>();
+        for (Voucher voucher : voucherRepository.findAllById(new HashSet<>(Arrays.asList(voucherIds)))) {
+            vouchers.put(voucher.getVoucherId(), voucher);
+        }
+        long[] finalAmounts = new long[amounts.length];
+        long[] discountAmounts = new long[amounts.length];
+        Set<String> missingVoucherIds = new LinkedHashSet<>();
+        for (int i = 0; i < amounts.length; i++) {
+            Voucher voucher = vouchers.get(voucherIds[i]);
+            if (voucher == null) {
+                finalAmounts[i] = amounts[i];
+                missingVoucherIds.add(String.valueOf(voucherIds[i]));
+                continue;
+            }
+            finalAmounts[i] = voucher.apply(amounts[i]);
+            discountAmounts[i] = amounts[i] - finalAmounts[i];
+        }
+        return new PriceBatchResponse(finalAmounts, discountAmounts, List.copyOf(missingVoucherIds));
+    }
+
+    private void checkPriceBatch(UUID[] voucherIds, long[] amounts) {
+        if (voucherIds == null || amounts == null || voucherIds.length != amounts.length) {
+            throw new IllegalArgumentException("The voucherIds and amounts must have the same length.");
+        }
+        if (voucherIds.length > MAX_PRICE_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size is " + MAX_PRICE_BATCH_SIZE + " or less.");
+        }
+    }
+
+    public List<VoucherStatsDto> getVoucherStats() {
+        return voucherRepository.getStats().stream()
+                .map(VoucherStatsDto::new)
+                .toList();
+    }
+
+    public void exportVouchers(Consumer<VoucherDto> consumer) {
+        voucherRepository.streamAll(voucher -> consumer.accept(new VoucherDto(voucher)));
+    }
+
+    // 기대 version이 없으면 지금 읽은 version을 기준으로 바꾼다. 그 사이 다른 수정이 끼어들면 VersionConflictException
     public VoucherDto updateVoucher(UUID voucherId, VoucherType voucherType, long discount) {
-        Voucher newVoucher = VoucherFactory.createVoucher(voucherType, voucherId, discount);
+        Voucher current = voucherRepository.findById(voucherId)
+                .orElseThrow(() -> new DataNotExistException(voucherId.toString(), VOUCHER));
+        return updateVoucher(voucherId, voucherType, discount, current.getVersion());
+    }
+
+    public VoucherDto updateVoucher(UUID voucherId, VoucherType voucherType, long discount, long expectedVersion) {
+        Voucher newVoucher = VoucherFactory.createVoucher(voucherType, voucherId, discount, expectedVersion);
         return new VoucherDto(voucherRepository.update(newVoucher));
     }
 
@@ -2,38 +2,108 @@ package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
-import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.JdbcWalletRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.request.AssignWalletRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response.AssignWalletResultDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response.RedeemResultDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.WalletRepository;
 
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 @Service
 public class WalletService {
 
-    private final JdbcWalletRepository jdbcWalletRepository;
+    private static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+    private final WalletRepository walletRepository;
 
-    public WalletService(JdbcWalletRepository jdbcWalletRepository) {
-        this.jdbcWalletRepository = jdbcWalletRepository;
+    public WalletService(WalletRepository walletRepository) {
+        this.walletRepository = walletRepository;
     }
 
     public void insertToWallet(UUID customerId, UUID voucherId) {
-        jdbcWalletRepository.insertToWallet(customerId, voucherId);
+        walletRepository.insertToWallet(customerId, voucherId);
+    }
+
+    // id 형식이 잘못된 쌍은 INVALID로 돌려주고 나머지 쌍만 저장소에 넘긴다.
+    public List<AssignWalletResultDto> insertAllToWallet(List<AssignWalletRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The number of wallet assignments is " + MAX_BATCH_SIZE + " or less.");
+        }
+        AssignResult[] results = new AssignResult[requests.size()];
+        List<WalletEntry> entries = new ArrayList<>(requests.size());
+        int[] entryIndexes = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            WalletEntry entry = toWalletEntry(requests.get(i));
+            if (entry == null) {
+                results[i] = AssignResult.INVALID;
+                continue;
+            }
+            entryIndexes[entries.size()] = i;
+            entries.add(entry);
+        }
+        if (!entries.isEmpty()) {
+            List<AssignResult> assigned = walletRepository.insertAllToWallet(entries);
+            for (int i = 0; i < assigned.size(); i++) {
+                results[entryIndexes[i]] = assigned.get(i);
+            }
+        }
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> new AssignWalletResultDto(
+                        requests.get(i).getCustomerId(), requests.get(i).getVoucherId(), results[i]))
+                .toList();
+    }
+
+    private static WalletEntry toWalletEntry(AssignWalletRequest request) {
+        if (request.getCustomerId() == null || request.getVoucherId() == null) {
+            return null;
+        }
+        try {
+            return new WalletEntry(UUID.fromString(request.getCustomerId()), UUID.fromString(request.getVoucherId()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public List<VoucherDto> findWalletByCustomerId(UUID customerId) {
-        return jdbcWalletRepository.findVouchersByCustomerId(customerId)
+        return walletRepository.findVouchersByCustomerId(customerId)
                 .stream()
                 .map(VoucherDto::new)
                 .toList();
     }
 
+    public VoucherPageDto getWalletPage(UUID customerId, UUID afterVoucherId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Voucher> vouchers = walletRepository.findVoucherPageByCustomerId(customerId, afterVoucherId, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        boolean hasNext = vouchers.size() > pageSize;
+        List<VoucherDto> page = vouchers.stream().limit(pageSize).map(VoucherDto::new).toList();
+        String nextCursor = hasNext ? page.get(page.size() - 1).getVoucherId() : null;
+        return new VoucherPageDto(page, nextCursor);
+    }
+
     public CustomerDto findCustomerByVoucherId(UUID voucherId) {
-        return new CustomerDto(jdbcWalletRepository.findCustomerByVoucherId(voucherId));
+        return new CustomerDto(walletRepository.findCustomerByVoucherId(voucherId));
     }
 
     public void deleteVoucherFromWallet(UUID voucherId) {
-        jdbcWalletRepository.deleteVoucher(voucherId);
+        walletRepository.deleteVoucher(voucherId);
+    }
+
+    public RedeemResultDto redeem(UUID customerId, UUID voucherId, String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException("The idempotency key is 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters.");
+        }
+        RedeemResult result = walletRepository.redeem(customerId, voucherId, idempotencyKey);
+        return new RedeemResultDto(customerId.toString(), voucherId.toString(), result);
     }
 }
@@ -0,0 +1,4 @@
+-- customers.name prefix 검색(LIKE 'prefix%')용 인덱스를 추가하는 MySQL 8 마이그레이션
+-- (name, customer_id) 순서라 ORDER BY name, customer_id LIMIT n 도 정렬 없이 인덱스 순서대로 읽는다.
+
+ALTER TABLE customers ADD INDEX idx_customers_name (name, customer_id);
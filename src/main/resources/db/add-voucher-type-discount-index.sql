@@ -0,0 +1,5 @@
+-- 바우처 검색(GET /api/v1/voucher/search)용 인덱스를 추가하는 MySQL 8 마이그레이션
+-- voucher_type을 지정한 검색은 (voucher_type, discount) 범위를 인덱스 순서대로 읽고 LIMIT에서 멈춘다.
+-- InnoDB 보조 인덱스 끝에 PK(voucher_id)가 붙어 있어 ORDER BY discount, voucher_id 도 정렬 없이 처리된다.
+
+ALTER TABLE vouchers ADD INDEX idx_vouchers_type_discount (voucher_type, discount);
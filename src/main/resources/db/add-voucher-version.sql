@@ -0,0 +1,5 @@
+-- 바우처 낙관적 락(version 컬럼)을 추가하는 MySQL 8 마이그레이션
+-- 수정은 UPDATE ... SET version = version + 1 WHERE voucher_id = ? AND version = ? 한 문장으로 처리한다.
+-- 기존 row는 version 0에서 시작한다. (INSTANT ALGORITHM이라 테이블을 다시 쓰지 않는다)
+
+ALTER TABLE vouchers ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
@@ -0,0 +1,9 @@
+-- 지갑 바우처 사용(redeem) 처리를 위한 MySQL 8 마이그레이션
+-- 사용 처리는 UPDATE wallets SET used = TRUE ... WHERE customer_id = ? AND voucher_id = ? AND used = FALSE 한 문장이고,
+-- PK(customer_id, voucher_id)로 row 하나만 잠그므로 같은 바우처에 몰린 요청 중 하나만 1 row를 얻는다.
+-- idempotency_key는 처음 사용한 요청의 key이며, 같은 key로 재시도하면 같은 결과(REDEEMED)를 돌려준다.
+
+ALTER TABLE wallets
+    ADD COLUMN used BOOLEAN NOT NULL DEFAULT FALSE,
+    ADD COLUMN idempotency_key VARCHAR(64) NULL,
+    ALGORITHM = INSTANT;
@@ -0,0 +1,9 @@
+-- wallets.voucher_id에 unique 인덱스를 추가하는 MySQL 8 마이그레이션
+-- 바우처는 한 고객의 지갑에만 들어갈 수 있고, findCustomerByVoucherId/deleteVoucher가 이 인덱스를 탄다.
+-- InnoDB 보조 인덱스에는 PK(customer_id)가 함께 들어 있어 voucher_id -> customer_id 조회는 커버링 인덱스로 끝난다.
+
+-- 1. 여러 지갑에 들어 있는 바우처가 있는지 먼저 확인한다. (결과가 있으면 정리 후 진행)
+SELECT voucher_id, COUNT(*) FROM wallets GROUP BY voucher_id HAVING COUNT(*) > 1;
+
+-- 2. FK가 자동으로 만든 voucher_id 인덱스 대신 unique 인덱스를 사용하게 된다.
+ALTER TABLE wallets ADD CONSTRAINT uk_wallets_voucher_id UNIQUE (voucher_id);
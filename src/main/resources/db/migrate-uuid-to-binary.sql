@@ -0,0 +1,42 @@
+-- varchar(255) UUID 컬럼을 BINARY(16)으로 옮기는 MySQL 8 마이그레이션
+-- 1. 애플리케이션을 내린 상태에서 이 스크립트를 실행한다.
+-- 2. repository.jdbc.uuid-storage=binary 로 설정하고 애플리케이션을 다시 올린다.
+-- UUID_TO_BIN(uuid)은 swap flag 없이 사용해야 애플리케이션(UuidStorage.BINARY)과 바이트 순서가 같다.
+-- add-customer-name-index.sql, add-wallet-voucher-unique-index.sql을 먼저 적용한 스키마를 기준으로 한다.
+-- DROP COLUMN은 그 컬럼이 들어간 인덱스도 지우거나 줄이므로 두 인덱스를 아래에서 다시 만든다.
+
+-- FK 이름은 만든 방식에 따라 다르므로(wallets_ibfk_N, fk_wallets_*) information_schema에서 찾아서 지운다.
+SELECT CONSTRAINT_NAME INTO @fk_customer FROM information_schema.KEY_COLUMN_USAGE
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'wallets' AND COLUMN_NAME = 'customer_id' AND REFERENCED_TABLE_NAME = 'customers';
+SELECT CONSTRAINT_NAME INTO @fk_voucher FROM information_schema.KEY_COLUMN_USAGE
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'wallets' AND COLUMN_NAME = 'voucher_id' AND REFERENCED_TABLE_NAME = 'vouchers';
+SET @drop_fks = CONCAT('ALTER TABLE wallets DROP FOREIGN KEY `', @fk_customer, '`, DROP FOREIGN KEY `', @fk_voucher, '`');
+PREPARE drop_fks FROM @drop_fks;
+EXECUTE drop_fks;
+DEALLOCATE PREPARE drop_fks;
+
+-- vouchers
+ALTER TABLE vouchers ADD COLUMN voucher_id_bin BINARY(16);
+UPDATE vouchers SET voucher_id_bin = UUID_TO_BIN(voucher_id);
+ALTER TABLE vouchers DROP PRIMARY KEY, DROP COLUMN voucher_id;
+ALTER TABLE vouchers CHANGE COLUMN voucher_id_bin voucher_id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (voucher_id);
+
+-- customers
+ALTER TABLE customers ADD COLUMN customer_id_bin BINARY(16);
+UPDATE customers SET customer_id_bin = UUID_TO_BIN(customer_id);
+ALTER TABLE customers DROP PRIMARY KEY, DROP COLUMN customer_id;
+ALTER TABLE customers CHANGE COLUMN customer_id_bin customer_id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (customer_id);
+-- customer_id가 빠져 (name)만 남은 인덱스를 (name, customer_id)로 다시 만든다.
+ALTER TABLE customers DROP INDEX idx_customers_name, ADD INDEX idx_customers_name (name, customer_id);
+
+-- wallets
+ALTER TABLE wallets ADD COLUMN customer_id_bin BINARY(16), ADD COLUMN voucher_id_bin BINARY(16);
+UPDATE wallets SET customer_id_bin = UUID_TO_BIN(customer_id), voucher_id_bin = UUID_TO_BIN(voucher_id);
+ALTER TABLE wallets DROP PRIMARY KEY, DROP COLUMN customer_id, DROP COLUMN voucher_id;
+ALTER TABLE wallets
+    CHANGE COLUMN customer_id_bin customer_id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN voucher_id_bin voucher_id BINARY(16) NOT NULL AFTER customer_id,
+    ADD PRIMARY KEY (customer_id, voucher_id),
+    ADD CONSTRAINT uk_wallets_voucher_id UNIQUE (voucher_id), -- DROP COLUMN voucher_id와 함께 지워진 unique 인덱스
+    ADD CONSTRAINT fk_wallets_customer_id FOREIGN KEY (customer_id) REFERENCES customers (customer_id) ON DELETE CASCADE ON UPDATE CASCADE,
+    ADD CONSTRAINT fk_wallets_voucher_id FOREIGN KEY (voucher_id) REFERENCES vouchers (voucher_id) ON DELETE CASCADE ON UPDATE CASCADE;
@@ -0,0 +1,60 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.aop;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VoucherRepository voucherRepository = proxy(new MemoryVoucherRepository());
+
+    private VoucherRepository proxy(VoucherRepository target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new MetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장소 호출 시간과 조회된 row 수가 기록된다.")
+    void recordTimerAndRowsTest() {
+        //given
+        voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 10));
+        //when
+        voucherRepository.findAll();
+        //then
+        assertThat(meterRegistry.get("app.repository")
+                .tags("class", "MemoryVoucherRepository", "method", "insert", "exception", "none")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.repository.rows").tag("method", "findAll")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 데이터 예외가 발생하면 예외 종류별로 횟수가 기록된다.")
+    void countDataExceptionTest() {
+        //when
+        assertThatThrownBy(() -> voucherRepository.deleteById(UUID.randomUUID()))
+                .isInstanceOf(DataNotExistException.class);
+        //then
+        assertThat(meterRegistry.get("app.errors")
+                .tags("layer", "repository", "method", "deleteById", "exception", "DataNotExistException")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.repository")
+                .tags("method", "deleteById", "exception", "DataNotExistException")
+                .timer().count()).isEqualTo(1);
+    }
+}
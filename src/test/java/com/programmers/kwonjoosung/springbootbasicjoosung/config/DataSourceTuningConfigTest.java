@@ -0,0 +1,98 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceTuningConfigTest {
+
+    private final DataSourceTuningProperties properties = new DataSourceTuningProperties();
+
+    @Test
+    @DisplayName("[성공] MySQL 풀에는 풀 크기, 타임아웃과 PreparedStatement 캐시 설정이 적용된다.")
+    void applyToMySqlDataSourceTest() {
+        //given
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/VoucherManagementApplication");
+        properties.setMaximumPoolSize(16);
+        properties.setConnectionTimeout(Duration.ofMillis(500));
+        properties.setRewriteBatchedStatements(true);
+        properties.getStatementCache().setEnabled(true);
+        properties.getStatementCache().setSize(250);
+        properties.getStatementCache().setSqlLimit(2048);
+        properties.getStatementCache().setServerSide(true);
+        //when
+        DataSourceTuningConfig.apply(dataSource, properties);
+        //then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(16);
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(500);
+        assertThat(dataSource.getDataSourceProperties())
+                .containsEntry("cachePrepStmts", "true")
+                .containsEntry("prepStmtCacheSize", "250")
+                .containsEntry("prepStmtCacheSqlLimit", "2048")
+                .containsEntry("useServerPrepStmts", "true")
+                .containsEntry("rewriteBatchedStatements", "true");
+    }
+
+    @Test
+    @DisplayName("[성공] MySQL이 아닌 풀에는 드라이버 설정을 넣지 않는다.")
+    void skipDriverPropertiesForH2Test() {
+        //given
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:tuning");
+        properties.setMaximumPoolSize(16);
+        properties.setRewriteBatchedStatements(true);
+        //when
+        DataSourceTuningConfig.apply(dataSource, properties);
+        //then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(16);
+        assertThat(dataSource.getDataSourceProperties()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 적은 항목만 자동 설정된 dataSource 풀에 적용하고 나머지는 spring.datasource.hikari 값을 유지한다.")
+    void applyToAutoConfiguredDataSourceTest() {
+        //given
+        ApplicationContextRunner contextRunner = contextRunner()
+                .withPropertyValues("datasource.tuning.maximum-pool-size=7", "spring.datasource.hikari.connection-timeout=1234");
+        //when
+        //then
+        contextRunner.run(context -> {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(dataSource.getConnectionTimeout()).isEqualTo(1234);
+        });
+    }
+
+    @Test
+    @DisplayName("[실패] 같은 항목을 datasource.tuning과 spring.datasource.hikari에 모두 적으면 시작하지 않는다.")
+    void rejectConflictingSettingsTest() {
+        //given
+        ApplicationContextRunner contextRunner = contextRunner()
+                .withPropertyValues("datasource.tuning.maximum-pool-size=7", "spring.datasource.hikari.maximum-pool-size=20");
+        //when
+        //then
+        contextRunner.run(context -> assertThat(context).hasFailed()
+                .getFailure().hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Set either datasource.tuning.maximum-pool-size or spring.datasource.hikari.maximum-pool-size, not both"));
+    }
+
+    private ApplicationContextRunner contextRunner() {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withUserConfiguration(DataSourceTuningConfig.class, TuningPropertiesConfig.class)
+                .withPropertyValues("spring.datasource.url=jdbc:h2:mem:tuning-context");
+    }
+
+    @EnableConfigurationProperties(DataSourceTuningProperties.class)
+    static class TuningPropertiesConfig {
+    }
+}
@@ -1,5 +1,6 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -14,6 +15,7 @@ import javax.sql.DataSource;
 
 @TestConfiguration
 @ComponentScan(basePackages = "com.programmers.kwonjoosung.springbootbasicjoosung.repository")
+@EnableConfigurationProperties(JdbcRepositoryProperties.class)
 public class TestDataSourceConfig {
 
     @Bean
@@ -0,0 +1,55 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.model;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.WrongVoucherTypeException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VoucherTypeTest {
+
+    @Test
+    @DisplayName("[성공] DB에 저장된 enum 이름으로 VoucherType을 찾는다.")
+    void ofEnumNameTest() {
+        //given
+        String fixed = VoucherType.FIXED.name();
+        String percent = VoucherType.PERCENT.name();
+        //when
+        //then
+        assertThat(VoucherType.of(fixed)).isEqualTo(VoucherType.FIXED);
+        assertThat(VoucherType.of(percent)).isEqualTo(VoucherType.PERCENT);
+    }
+
+    @Test
+    @DisplayName("[성공] 소문자 입력으로 VoucherType을 찾는다.")
+    void ofLowerCaseTest() {
+        //given
+        //when
+        //then
+        assertThat(VoucherType.of("fixed")).isEqualTo(VoucherType.FIXED);
+        assertThat(VoucherType.of("percent")).isEqualTo(VoucherType.PERCENT);
+    }
+
+    @Test
+    @DisplayName("[성공] 대소문자가 섞인 입력도 VoucherType을 찾는다.")
+    void ofMixedCaseTest() {
+        //given
+        //when
+        //then
+        assertThat(VoucherType.of("Fixed")).isEqualTo(VoucherType.FIXED);
+        assertThat(VoucherType.of("pErCeNt")).isEqualTo(VoucherType.PERCENT);
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 바우처 타입이면 WrongVoucherTypeException이 발생한다.")
+    void ofUnknownTypeTest() {
+        //given
+        String unknown = "amount";
+        //when
+        //then
+        assertThatThrownBy(() -> VoucherType.of(unknown))
+                .isInstanceOf(WrongVoucherTypeException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.JdbcCustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.JdbcWalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryUuidStorageTest {
+
+    private EmbeddedDatabase database;
+    private JdbcVoucherRepository voucherRepository;
+    private JdbcCustomerRepository customerRepository;
+    private JdbcWalletRepository walletRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema-binary.sql")
+                .build();
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        properties.setUuidStorage(UuidStorage.BINARY);
+        voucherRepository = new JdbcVoucherRepository(jdbcTemplate, properties);
+        customerRepository = new JdbcCustomerRepository(jdbcTemplate, properties);
+        walletRepository = new JdbcWalletRepository(jdbcTemplate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] UUID와 16바이트 배열은 서로 손실 없이 변환된다.")
+    void convertUuidToBytesTest() {
+        //given
+        UUID uuid = UUID.randomUUID();
+        //when
+        byte[] bytes = UuidStorage.toBytes(uuid);
+        //then
+        assertThat(bytes).hasSize(16);
+        assertThat(UuidStorage.fromBytes(bytes)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("[성공] BINARY(16) 컬럼에 바우처, 고객, 지갑을 저장하고 조회할 수 있다.")
+    void binaryStorageCrudTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        Customer customer = new Customer(UUID.randomUUID(), "joosung");
+        voucherRepository.insert(voucher);
+        customerRepository.insert(customer);
+        //when
+        walletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //then
+        assertThat(voucherRepository.findById(voucher.getVoucherId())).contains(voucher);
+        assertThat(customerRepository.findById(customer.getCustomerId())).contains(customer);
+        assertThat(walletRepository.findCustomerByVoucherId(voucher.getVoucherId())).isEqualTo(customer);
+        assertThat(walletRepository.findVouchersByCustomerId(customer.getCustomerId())).containsExactly(voucher);
+    }
+
+    @Test
+    @DisplayName("[성공] BINARY(16) 컬럼에서도 문자열과 같은 순서로 페이지를 조회할 수 있다.")
+    void binaryStoragePageTest() {
+        //given
+        List<Voucher> vouchers = List.of(
+                VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000),
+                VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10),
+                VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 2000));
+        assertThat(voucherRepository.insertAll(vouchers)).isEmpty();
+        List<Voucher> sorted = vouchers.stream()
+                .sorted(Comparator.comparing(voucher -> voucher.getVoucherId().toString()))
+                .toList();
+        //when
+        List<Voucher> firstPage = voucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = voucherRepository.findPage(firstPage.get(1).getVoucherId(), 2);
+        //then
+        assertThat(firstPage).containsExactly(sorted.get(0), sorted.get(1));
+        assertThat(secondPage).containsExactly(sorted.get(2));
+    }
+}
@@ -1,5 +1,6 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.config.TestDataSourceConfig;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
@@ -14,9 +15,12 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -152,4 +156,56 @@ class JdbcCustomerRepositoryTest {
                 .isInstanceOf(DataNotExistException.class);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 고객을 customer_id 순서로 나누어 조회할 수 있다.")
+    void findPageTest() {
+        //given
+        List<Customer> customers = IntStream.range(0, 5)
+                .mapToObj(i -> jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "customer" + i)))
+                .sorted(Comparator.comparing(Customer::getCustomerId, UuidStorage.ORDER))
+                .toList();
+        //when
+        List<Customer> firstPage = jdbcCustomerRepository.findPage(null, 3);
+        List<Customer> secondPage = jdbcCustomerRepository.findPage(firstPage.get(2).getCustomerId(), 3);
+        //then
+        assertThat(firstPage).containsExactlyElementsOf(customers.subList(0, 3));
+        assertThat(secondPage).containsExactlyElementsOf(customers.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("[성공] 이름 prefix로 고객을 검색할 수 있고, prefix의 %, _ 는 문자 그대로 비교한다.")
+    void findByNamePrefixTest() {
+        //given
+        Customer kim = jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "kim_joosung"));
+        Customer kimb = jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "kim_b"));
+        jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "kimxjoosung"));
+        jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "lee"));
+        //when
+        List<Customer> found = jdbcCustomerRepository.findByNamePrefix("kim_", 10);
+        List<Customer> limited = jdbcCustomerRepository.findByNamePrefix("kim", 1);
+        //then
+        assertThat(found).containsExactly(kimb, kim);
+        assertThat(limited).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 고객id를 batchSize 단위로 나눠서 한 번에 조회할 수 있다.")
+    void findAllByIdTest() {
+        //given
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        properties.setBatchSize(2);
+        JdbcCustomerRepository chunkedRepository = new JdbcCustomerRepository(jdbcTemplate, properties);
+        List<Customer> customers = IntStream.range(0, 5)
+                .mapToObj(i -> jdbcCustomerRepository.insert(new Customer(UUID.randomUUID(), "test" + i)))
+                .toList();
+        List<UUID> customerIds = new ArrayList<>(customers.stream().map(Customer::getCustomerId).toList());
+        customerIds.add(UUID.randomUUID());
+        customerIds.add(customers.get(0).getCustomerId());
+        //when
+        List<Customer> foundCustomers = chunkedRepository.findAllById(customerIds);
+        //then
+        assertThat(foundCustomers).containsExactlyInAnyOrderElementsOf(customers);
+        assertThat(chunkedRepository.findAllById(List.of())).isEmpty();
+    }
+}
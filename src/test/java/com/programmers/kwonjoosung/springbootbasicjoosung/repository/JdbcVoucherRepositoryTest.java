@@ -1,12 +1,17 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.config.TestDataSourceConfig;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSearchCondition;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSortOrder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -97,6 +104,21 @@ class JdbcVoucherRepositoryTest {
                 .isInstanceOf(DataAlreadyExistException.class);
     }
 
+    @Test
+    @DisplayName("[성공] 여러 바우처를 한 번에 저장하고, 이미 존재하는 바우처의 id만 반환한다.")
+    void insertAllVoucherTest() {
+        //given
+        Voucher existing = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        jdbcVoucherRepository.insert(existing);
+        Voucher voucher1 = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 2000);
+        Voucher voucher2 = VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 20);
+        //when
+        List<UUID> duplicatedIds = jdbcVoucherRepository.insertAll(List.of(voucher1, existing, voucher2, voucher1));
+        //then
+        assertThat(duplicatedIds).containsExactlyInAnyOrder(existing.getVoucherId(), voucher1.getVoucherId());
+        assertThat(jdbcVoucherRepository.findById(voucher1.getVoucherId())).contains(voucher1);
+        assertThat(jdbcVoucherRepository.findById(voucher2.getVoucherId())).contains(voucher2);
+    }
 
     @Test
     @DisplayName("[성공] 전체 바우처를 조회할 수 있다.")
@@ -112,6 +134,41 @@ class JdbcVoucherRepositoryTest {
         assertThat(voucherList).contains(voucher1, voucher2); // 순서를 보장할 필요성?
     }
 
+    @Test
+    @DisplayName("[성공] 커서 이후의 바우처를 id 순서대로 limit 만큼 조회할 수 있다.")
+    void findPageTest() {
+        //given
+        List<Voucher> vouchers = List.of(
+                VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000),
+                VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10),
+                VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 2000));
+        vouchers.forEach(jdbcVoucherRepository::insert);
+        List<Voucher> sorted = vouchers.stream()
+                .sorted(Comparator.comparing(voucher -> voucher.getVoucherId().toString()))
+                .toList();
+        //when
+        List<Voucher> firstPage = jdbcVoucherRepository.findPage(null, 2);
+        List<Voucher> secondPage = jdbcVoucherRepository.findPage(firstPage.get(1).getVoucherId(), 2);
+        //then
+        assertThat(firstPage).containsExactly(sorted.get(0), sorted.get(1));
+        assertThat(secondPage).containsExactly(sorted.get(2));
+    }
+
+    @Test
+    @DisplayName("[성공] 전체 바우처를 한 건씩 스트리밍으로 조회할 수 있다.")
+    void streamAllVoucherTest() {
+        //given
+        Voucher voucher1 = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        Voucher voucher2 = VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10);
+        jdbcVoucherRepository.insert(voucher1);
+        jdbcVoucherRepository.insert(voucher2);
+        List<Voucher> streamed = new ArrayList<>();
+        //when
+        jdbcVoucherRepository.streamAll(streamed::add);
+        //then
+        assertThat(streamed).contains(voucher1, voucher2);
+    }
+
     @Test
     @DisplayName("[성공] 바우처를 업데이트를 할 수 있다.")
     void updateVoucherTest() {
@@ -123,6 +180,22 @@ class JdbcVoucherRepositoryTest {
         Voucher updatedVoucher = jdbcVoucherRepository.update(newVoucher);
         //then
         assertThat(updatedVoucher).isEqualTo(newVoucher);
+        assertThat(updatedVoucher.getVersion()).isEqualTo(newVoucher.getVersion() + 1);
+        assertThat(jdbcVoucherRepository.findById(voucher.getVoucherId()).orElseThrow().getVersion())
+                .isEqualTo(updatedVoucher.getVersion());
+    }
+
+    @Test
+    @DisplayName("[실패] 읽은 뒤 다른 곳에서 수정된 바우처는 예전 version으로 업데이트할 수 없다.")
+    void updateStaleVersionVoucherTest() {
+        //given
+        Voucher voucher = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        jdbcVoucherRepository.update(VoucherFactory.createVoucher(VoucherType.FIXED, voucher.getVoucherId(), 2000, voucher.getVersion()));
+        Voucher staleVoucher = VoucherFactory.createVoucher(VoucherType.FIXED, voucher.getVoucherId(), 3000, voucher.getVersion());
+        //when & then
+        assertThatThrownBy(() -> jdbcVoucherRepository.update(staleVoucher))
+                .isInstanceOf(VersionConflictException.class);
+        assertThat(jdbcVoucherRepository.findById(voucher.getVoucherId()).orElseThrow().getDiscount()).isEqualTo(2000);
     }
 
     @Test
@@ -156,4 +229,82 @@ class JdbcVoucherRepositoryTest {
         assertThatThrownBy(() -> jdbcVoucherRepository.deleteById(uuid))
                 .isInstanceOf(DataNotExistException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 타입, 할인 범위, 정렬, 개수 조건으로 바우처를 검색할 수 있다.")
+    void searchTest() {
+        //given
+        Voucher fixed1000 = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        Voucher fixed2000 = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 2000));
+        Voucher fixed3000 = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 3000));
+        jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 10));
+        Voucher percent20 = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 20));
+        //when
+        List<Voucher> fixedFrom1500 = jdbcVoucherRepository.search(
+                new VoucherSearchCondition(VoucherType.FIXED, 1500L, null, VoucherSortOrder.DISCOUNT_ASC, 10));
+        List<Voucher> topTwoUnder1500 = jdbcVoucherRepository.search(
+                new VoucherSearchCondition(null, null, 1500L, VoucherSortOrder.DISCOUNT_DESC, 2));
+        List<Voucher> invertedRange = jdbcVoucherRepository.search(
+                new VoucherSearchCondition(VoucherType.FIXED, 3000L, 1000L, VoucherSortOrder.DISCOUNT_ASC, 10));
+        //then
+        assertThat(fixedFrom1500).containsExactly(fixed2000, fixed3000);
+        assertThat(topTwoUnder1500).containsExactly(fixed1000, percent20);
+        assertThat(invertedRange).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 타입별 개수, 합계, 최솟값, 최댓값, 히스토그램을 한 번의 집계로 조회할 수 있다.")
+    void getStatsTest() {
+        //given
+        jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 5000));
+        jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 95000));
+        jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 15));
+        //when
+        List<VoucherStats> stats = jdbcVoucherRepository.getStats();
+        //then
+        assertThat(stats).extracting(VoucherStats::getVoucherType).containsExactly(VoucherType.values());
+        VoucherStats fixed = stats.get(VoucherType.FIXED.ordinal());
+        assertThat(fixed.getCount()).isEqualTo(3);
+        assertThat(fixed.getSum()).isEqualTo(101000);
+        assertThat(fixed.getMin()).isEqualTo(1000);
+        assertThat(fixed.getMax()).isEqualTo(95000);
+        assertThat(fixed.getHistogram()).containsExactly(2, 0, 0, 0, 0, 0, 0, 0, 0, 1);
+        VoucherStats percent = stats.get(VoucherType.PERCENT.ordinal());
+        assertThat(percent.getCount()).isEqualTo(1);
+        assertThat(percent.getHistogram()).containsExactly(0, 1, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 바우처id로 한 번에 조회하면 존재하는 바우처만 돌려준다.")
+    void findAllByIdTest() {
+        //given
+        Voucher fixed = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        Voucher percent = jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 10));
+        //when
+        List<Voucher> vouchers = jdbcVoucherRepository.findAllById(
+                List.of(fixed.getVoucherId(), percent.getVoucherId(), UUID.randomUUID()));
+        //then
+        assertThat(vouchers).containsExactlyInAnyOrder(fixed, percent);
+        assertThat(jdbcVoucherRepository.findAllById(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] batchSize보다 많은 id는 나눠서 조회하고 중복 id는 한 번만 돌려준다.")
+    void findAllByIdInChunksTest() {
+        //given
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        properties.setBatchSize(2);
+        JdbcVoucherRepository chunkedRepository = new JdbcVoucherRepository(jdbcTemplate, properties);
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            vouchers.add(jdbcVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, i * 1000L)));
+        }
+        List<UUID> voucherIds = new ArrayList<>(vouchers.stream().map(Voucher::getVoucherId).toList());
+        voucherIds.add(vouchers.get(0).getVoucherId());
+        //when
+        List<Voucher> foundVouchers = chunkedRepository.findAllById(voucherIds);
+        //then
+        assertThat(foundVouchers).containsExactlyInAnyOrderElementsOf(vouchers);
+    }
+}
@@ -1,11 +1,16 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.JdbcRepositoryProperties;
 import com.programmers.kwonjoosung.springbootbasicjoosung.config.TestDataSourceConfig;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerRepository;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.JdbcCustomerRepository;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.JdbcVoucherRepository;
@@ -18,10 +23,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,6 +48,9 @@ public class JdbcWalletRepositoryTest {
     @Autowired
     private NamedParameterJdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     public void setUp() {
         this.jdbcWalletRepository = new JdbcWalletRepository(jdbcTemplate);
@@ -232,5 +245,108 @@ public class JdbcWalletRepositoryTest {
         //then
         assertThat(vouchers).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("[실패] 이미 다른 고객의 지갑에 있는 바우처는 추가할 수 없다.")
+    void insertVoucherToAnotherWalletTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        voucherRepository.insert(voucher);
+        Customer customer = new Customer(UUID.randomUUID(), "joosung");
+        Customer other = new Customer(UUID.randomUUID(), "other");
+        customerRepository.insert(customer);
+        customerRepository.insert(other);
+        jdbcWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //when & then
+        assertThatThrownBy(() -> jdbcWalletRepository.insertToWallet(other.getCustomerId(), voucher.getVoucherId()))
+                .isInstanceOf(DataAlreadyExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 쌍을 한 번에 할당하면 실패한 쌍을 제외하고 저장하고, 쌍마다 결과를 돌려준다.")
+    void insertAllToWalletTest() {
+        //given
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        properties.setBatchSize(2); // 여러 chunk로 나누어 저장되도록
+        JdbcWalletRepository walletRepository = new JdbcWalletRepository(jdbcTemplate, properties, transactionManager);
+        Customer customer = customerRepository.insert(new Customer(UUID.randomUUID(), "joosung"));
+        Voucher voucher1 = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000));
+        Voucher voucher2 = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10));
+        Voucher assigned = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 500));
+        walletRepository.insertToWallet(customer.getCustomerId(), assigned.getVoucherId());
+        List<WalletEntry> entries = List.of(
+                new WalletEntry(customer.getCustomerId(), voucher1.getVoucherId()),
+                new WalletEntry(customer.getCustomerId(), assigned.getVoucherId()),
+                new WalletEntry(UUID.randomUUID(), voucher2.getVoucherId()),
+                new WalletEntry(customer.getCustomerId(), UUID.randomUUID()),
+                new WalletEntry(customer.getCustomerId(), voucher2.getVoucherId()),
+                new WalletEntry(customer.getCustomerId(), voucher1.getVoucherId()));
+        //when
+        List<AssignResult> results = walletRepository.insertAllToWallet(entries);
+        //then
+        assertThat(results).containsExactly(AssignResult.OK, AssignResult.DUPLICATE, AssignResult.MISSING,
+                AssignResult.MISSING, AssignResult.OK, AssignResult.DUPLICATE);
+        assertThat(walletRepository.findVouchersByCustomerId(customer.getCustomerId()))
+                .containsExactlyInAnyOrder(voucher1, voucher2, assigned);
+    }
+
+    @Test
+    @DisplayName("[성공] 바깥 트랜잭션이 롤백되면 chunk로 저장한 지갑도 함께 롤백된다.")
+    void insertAllToWalletInOuterTransactionTest() {
+        //given
+        JdbcWalletRepository walletRepository = new JdbcWalletRepository(jdbcTemplate, new JdbcRepositoryProperties(), transactionManager);
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        outer.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        //when
+        UUID customerId = outer.execute(status -> {
+            Customer customer = customerRepository.insert(new Customer(UUID.randomUUID(), "joosung"));
+            Voucher voucher = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000));
+            walletRepository.insertAllToWallet(List.of(new WalletEntry(customer.getCustomerId(), voucher.getVoucherId())));
+            status.setRollbackOnly();
+            return customer.getCustomerId();
+        });
+        //then
+        assertThat(walletRepository.findVouchersByCustomerId(customerId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 고객의 바우처를 voucher_id 순서로 나누어 조회할 수 있다.")
+    void findVoucherPageByCustomerIdTest() {
+        //given
+        Customer customer = customerRepository.insert(new Customer(UUID.randomUUID(), "joosung"));
+        List<Voucher> vouchers = IntStream.range(0, 5)
+                .mapToObj(i -> voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000)))
+                .sorted(Comparator.comparing(Voucher::getVoucherId, UuidStorage.ORDER))
+                .toList();
+        vouchers.forEach(voucher -> jdbcWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId()));
+        //when
+        List<Voucher> firstPage = jdbcWalletRepository.findVoucherPageByCustomerId(customer.getCustomerId(), null, 3);
+        List<Voucher> secondPage = jdbcWalletRepository.findVoucherPageByCustomerId(
+                customer.getCustomerId(), firstPage.get(2).getVoucherId(), 3);
+        //then
+        assertThat(firstPage).containsExactlyElementsOf(vouchers.subList(0, 3));
+        assertThat(secondPage).containsExactlyElementsOf(vouchers.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("[성공] 지갑 바우처는 한 번만 사용되고, 같은 idempotency key의 재시도는 성공으로 처리된다.")
+    void redeemTest() {
+        //given
+        Voucher voucher = voucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        Customer customer = customerRepository.insert(new Customer(UUID.randomUUID(), "joosung"));
+        Customer other = customerRepository.insert(new Customer(UUID.randomUUID(), "other"));
+        jdbcWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //when
+        RedeemResult first = jdbcWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), "order-1");
+        RedeemResult retry = jdbcWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), "order-1");
+        RedeemResult otherKey = jdbcWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), "order-2");
+        RedeemResult noKey = jdbcWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), null);
+        RedeemResult otherWallet = jdbcWalletRepository.redeem(other.getCustomerId(), voucher.getVoucherId(), "order-3");
+        //then
+        assertThat(first).isEqualTo(RedeemResult.REDEEMED);
+        assertThat(retry).isEqualTo(RedeemResult.REDEEMED);
+        assertThat(otherKey).isEqualTo(RedeemResult.ALREADY_USED);
+        assertThat(noKey).isEqualTo(RedeemResult.ALREADY_USED);
+        assertThat(otherWallet).isEqualTo(RedeemResult.MISSING);
+    }
+}
@@ -0,0 +1,83 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.MemoryCustomerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryCustomerRepositoryTest {
+
+    private final MemoryCustomerRepository memoryCustomerRepository = new MemoryCustomerRepository();
+
+    @Test
+    @DisplayName("[실패] 같은 고객id는 저장할 수 없다.")
+    void insertSameCustomerTest() {
+        //given
+        Customer customer = memoryCustomerRepository.insert(new Customer("joosung"));
+        //when & then
+        assertThatThrownBy(() -> memoryCustomerRepository.insert(customer))
+                .isInstanceOf(DataAlreadyExistException.class);
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 고객은 수정하거나 삭제할 수 없다.")
+    void updateAndDeleteNotExistCustomerTest() {
+        //when & then
+        assertThatThrownBy(() -> memoryCustomerRepository.update(new Customer("joosung")))
+                .isInstanceOf(DataNotExistException.class);
+        assertThatThrownBy(() -> memoryCustomerRepository.delete(UUID.randomUUID()))
+                .isInstanceOf(DataNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 고객을 JDBC 저장소와 같은 customer_id 순서로 나누어 조회할 수 있다.")
+    void findPageTest() {
+        //given
+        List<Customer> customers = IntStream.range(0, 5)
+                .mapToObj(i -> memoryCustomerRepository.insert(new Customer("customer" + i)))
+                .sorted(Comparator.comparing(Customer::getCustomerId, UuidStorage.ORDER))
+                .toList();
+        //when
+        List<Customer> firstPage = memoryCustomerRepository.findPage(null, 3);
+        List<Customer> secondPage = memoryCustomerRepository.findPage(firstPage.get(2).getCustomerId(), 3);
+        //then
+        assertThat(firstPage).containsExactlyElementsOf(customers.subList(0, 3));
+        assertThat(secondPage).containsExactlyElementsOf(customers.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("[성공] 이름을 수정하면 이름 prefix 검색 결과도 바뀐다.")
+    void findByNamePrefixAfterUpdateTest() {
+        //given
+        Customer customer = memoryCustomerRepository.insert(new Customer("kim"));
+        memoryCustomerRepository.insert(new Customer("lee"));
+        //when
+        Customer renamed = memoryCustomerRepository.update(new Customer(customer.getCustomerId(), "park"));
+        //then
+        assertThat(memoryCustomerRepository.findByNamePrefix("kim", 10)).isEmpty();
+        assertThat(memoryCustomerRepository.findByNamePrefix("pa", 10)).containsExactly(renamed);
+    }
+
+    @Test
+    @DisplayName("[성공] 이름 prefix 검색은 MySQL 기본 collation처럼 대소문자를 구분하지 않는다.")
+    void findByNamePrefixIgnoreCaseTest() {
+        //given
+        Customer upper = memoryCustomerRepository.insert(new Customer("Kim"));
+        Customer lower = memoryCustomerRepository.insert(new Customer("kimchi"));
+        memoryCustomerRepository.insert(new Customer("lee"));
+        //when
+        List<Customer> customers = memoryCustomerRepository.findByNamePrefix("KI", 10);
+        //then
+        assertThat(customers).containsExactly(upper, lower);
+    }
+}
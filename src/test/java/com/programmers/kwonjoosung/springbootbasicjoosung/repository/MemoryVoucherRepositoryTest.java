@@ -0,0 +1,206 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherStats;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSearchCondition;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSortOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryVoucherRepositoryTest {
+
+    private final MemoryVoucherRepository memoryVoucherRepository = new MemoryVoucherRepository();
+
+    @Test
+    @DisplayName("[성공] 바우처를 저장하고 조회할 수 있다.")
+    void insertAndFindByIdTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        //when
+        memoryVoucherRepository.insert(voucher);
+        //then
+        assertThat(memoryVoucherRepository.findById(voucher.getVoucherId())).contains(voucher);
+    }
+
+    @Test
+    @DisplayName("[실패] 같은 바우처id는 저장할 수 없다.")
+    void insertSameVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        memoryVoucherRepository.insert(voucher);
+        //when & then
+        assertThatThrownBy(() -> memoryVoucherRepository.insert(voucher))
+                .isInstanceOf(DataAlreadyExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 타입이 바뀌도록 수정하면 타입별 조회 결과도 바뀐다.")
+    void updateVoucherTypeTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        memoryVoucherRepository.insert(voucher);
+        Voucher newVoucher = VoucherFactory.createVoucher(VoucherType.PERCENT, voucher.getVoucherId(), 10);
+        //when
+        memoryVoucherRepository.update(newVoucher);
+        //then
+        assertThat(memoryVoucherRepository.findByType(VoucherType.FIXED)).isEmpty();
+        assertThat(memoryVoucherRepository.findByType(VoucherType.PERCENT)).containsExactly(newVoucher);
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 바우처는 수정하거나 삭제할 수 없다.")
+    void updateAndDeleteNotExistVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        //when & then
+        assertThatThrownBy(() -> memoryVoucherRepository.update(voucher))
+                .isInstanceOf(DataNotExistException.class);
+        assertThatThrownBy(() -> memoryVoucherRepository.deleteById(voucher.getVoucherId()))
+                .isInstanceOf(DataNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 바우처를 삭제하면 id와 타입으로 조회되지 않는다.")
+    void deleteVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        memoryVoucherRepository.insert(voucher);
+        //when
+        memoryVoucherRepository.deleteById(voucher.getVoucherId());
+        //then
+        assertThat(memoryVoucherRepository.findById(voucher.getVoucherId())).isEmpty();
+        assertThat(memoryVoucherRepository.findByType(VoucherType.FIXED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 커서 이후의 바우처를 DB와 같은 id 순서로 조회할 수 있다.")
+    void findPageTest() {
+        //given
+        List<Voucher> vouchers = IntStream.range(0, 5)
+                .mapToObj(i -> VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000 + i))
+                .toList();
+        memoryVoucherRepository.insertAll(vouchers);
+        List<Voucher> sorted = vouchers.stream()
+                .sorted(Comparator.comparing(voucher -> voucher.getVoucherId().toString()))
+                .toList();
+        //when
+        List<Voucher> firstPage = memoryVoucherRepository.findPage(null, 3);
+        List<Voucher> secondPage = memoryVoucherRepository.findPage(firstPage.get(2).getVoucherId(), 3);
+        //then
+        assertThat(firstPage).containsExactlyElementsOf(sorted.subList(0, 3));
+        assertThat(secondPage).containsExactlyElementsOf(sorted.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 스레드에서 동시에 저장해도 유실되지 않는다.")
+    void concurrentInsertTest() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        //when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> memoryVoucherRepository.insert(
+                    VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10)));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        //then
+        assertThat(memoryVoucherRepository.findAll()).hasSize(1000);
+        assertThat(memoryVoucherRepository.findByType(VoucherType.PERCENT)).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("[성공] 타입, 할인 범위, 정렬, 개수 조건으로 바우처를 검색할 수 있다.")
+    void searchTest() {
+        //given
+        Voucher fixed1000 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        Voucher fixed2000 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 2000));
+        Voucher fixed3000 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 3000));
+        memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 10));
+        Voucher percent20 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 20));
+        //when
+        List<Voucher> fixedFrom1500 = memoryVoucherRepository.search(
+                new VoucherSearchCondition(VoucherType.FIXED, 1500L, null, VoucherSortOrder.DISCOUNT_ASC, 10));
+        List<Voucher> topTwoUnder1500 = memoryVoucherRepository.search(
+                new VoucherSearchCondition(null, null, 1500L, VoucherSortOrder.DISCOUNT_DESC, 2));
+        List<Voucher> invertedRange = memoryVoucherRepository.search(
+                new VoucherSearchCondition(VoucherType.FIXED, 3000L, 1000L, VoucherSortOrder.DISCOUNT_ASC, 10));
+        //then
+        assertThat(fixedFrom1500).containsExactly(fixed2000, fixed3000);
+        assertThat(topTwoUnder1500).containsExactly(fixed1000, percent20);
+        assertThat(invertedRange).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장, 수정, 삭제 후에도 타입별 통계가 맞게 유지된다.")
+    void getStatsTest() {
+        //given
+        Voucher fixed1000 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        Voucher fixed25000 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 25000));
+        memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 95000));
+        Voucher percent50 = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.PERCENT, 50));
+        //when
+        memoryVoucherRepository.update(VoucherFactory.createVoucher(VoucherType.PERCENT, fixed25000.getVoucherId(), 15));
+        memoryVoucherRepository.deleteById(percent50.getVoucherId());
+        List<VoucherStats> stats = memoryVoucherRepository.getStats();
+        //then
+        VoucherStats fixed = stats.get(VoucherType.FIXED.ordinal());
+        assertThat(fixed.getCount()).isEqualTo(2);
+        assertThat(fixed.getSum()).isEqualTo(96000);
+        assertThat(fixed.getMin()).isEqualTo(fixed1000.getDiscount());
+        assertThat(fixed.getMax()).isEqualTo(95000);
+        assertThat(fixed.getHistogram()).containsExactly(1, 0, 0, 0, 0, 0, 0, 0, 0, 1);
+        VoucherStats percent = stats.get(VoucherType.PERCENT.ordinal());
+        assertThat(percent.getCount()).isEqualTo(1);
+        assertThat(percent.getSum()).isEqualTo(15);
+        assertThat(percent.getMin()).isEqualTo(15);
+        assertThat(percent.getMax()).isEqualTo(15);
+        assertThat(percent.getHistogram()).containsExactly(0, 1, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 version으로 동시에 수정하면 한 요청만 성공하고 나머지는 충돌한다.")
+    void concurrentCompareAndSetUpdateTest() throws InterruptedException {
+        //given
+        Voucher voucher = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        //when
+        for (int i = 1; i <= 100; i++) {
+            long discount = 1000L + i;
+            executor.execute(() -> {
+                try {
+                    memoryVoucherRepository.update(VoucherFactory.createVoucher(
+                            VoucherType.FIXED, voucher.getVoucherId(), discount, voucher.getVersion()));
+                    succeeded.incrementAndGet();
+                } catch (VersionConflictException e) {
+                    conflicted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        //then
+        assertThat(succeeded).hasValue(1);
+        assertThat(conflicted).hasValue(99);
+        assertThat(memoryVoucherRepository.findById(voucher.getVoucherId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,189 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.RedeemResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.WalletEntry;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.MemoryCustomerRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.MemoryVoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.MemoryWalletRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryWalletRepositoryTest {
+
+    private final MemoryCustomerRepository memoryCustomerRepository = new MemoryCustomerRepository();
+    private final MemoryVoucherRepository memoryVoucherRepository = new MemoryVoucherRepository();
+    private final MemoryWalletRepository memoryWalletRepository =
+            new MemoryWalletRepository(memoryCustomerRepository, memoryVoucherRepository);
+
+    private final Customer customer = memoryCustomerRepository.insert(new Customer("joosung"));
+    private final Voucher voucher = memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000));
+
+    @Test
+    @DisplayName("[성공] 고객 지갑에 바우처를 넣고 양방향으로 조회할 수 있다.")
+    void insertToWalletTest() {
+        //when
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //then
+        assertThat(memoryWalletRepository.findVouchersByCustomerId(customer.getCustomerId())).containsExactly(voucher);
+        assertThat(memoryWalletRepository.findCustomerByVoucherId(voucher.getVoucherId())).isEqualTo(customer);
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 다른 고객이 가진 바우처는 지갑에 넣을 수 없다.")
+    void insertOwnedVoucherTest() {
+        //given
+        Customer other = memoryCustomerRepository.insert(new Customer("other"));
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //when & then
+        assertThatThrownBy(() -> memoryWalletRepository.insertToWallet(other.getCustomerId(), voucher.getVoucherId()))
+                .isInstanceOf(DataAlreadyExistException.class);
+    }
+
+    @Test
+    @DisplayName("[실패] 존재하지 않는 고객이나 바우처는 지갑에 넣을 수 없다.")
+    void insertNotExistTest() {
+        //when & then
+        assertThatThrownBy(() -> memoryWalletRepository.insertToWallet(UUID.randomUUID(), voucher.getVoucherId()))
+                .isInstanceOf(DataNotExistException.class);
+        assertThatThrownBy(() -> memoryWalletRepository.insertToWallet(customer.getCustomerId(), UUID.randomUUID()))
+                .isInstanceOf(DataNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 바우처를 삭제하면 지갑에서도 삭제된다.")
+    void deleteVoucherCascadeTest() {
+        //given
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //when
+        memoryVoucherRepository.deleteById(voucher.getVoucherId());
+        //then
+        assertThat(memoryWalletRepository.findVouchersByCustomerId(customer.getCustomerId())).isEmpty();
+        assertThatThrownBy(() -> memoryWalletRepository.findCustomerByVoucherId(voucher.getVoucherId()))
+                .isInstanceOf(DataNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 고객을 삭제하면 그 고객의 지갑이 비워져 바우처를 다시 할당할 수 있다.")
+    void deleteCustomerCascadeTest() {
+        //given
+        Customer other = memoryCustomerRepository.insert(new Customer("other"));
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        //when
+        memoryCustomerRepository.delete(customer.getCustomerId());
+        memoryWalletRepository.insertToWallet(other.getCustomerId(), voucher.getVoucherId());
+        //then
+        assertThat(memoryWalletRepository.findCustomerByVoucherId(voucher.getVoucherId())).isEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("[실패] 지갑에 없는 바우처는 삭제할 수 없다.")
+    void deleteNotExistVoucherTest() {
+        //when & then
+        assertThatThrownBy(() -> memoryWalletRepository.deleteVoucher(voucher.getVoucherId()))
+                .isInstanceOf(DataNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 쌍을 한 번에 할당하면 쌍마다 결과를 돌려준다.")
+    void insertAllToWalletTest() {
+        //given
+        List<WalletEntry> entries = List.of(
+                new WalletEntry(customer.getCustomerId(), voucher.getVoucherId()),
+                new WalletEntry(customer.getCustomerId(), voucher.getVoucherId()),
+                new WalletEntry(UUID.randomUUID(), voucher.getVoucherId()));
+        //when
+        List<AssignResult> results = memoryWalletRepository.insertAllToWallet(entries);
+        //then
+        assertThat(results).containsExactly(AssignResult.OK, AssignResult.DUPLICATE, AssignResult.MISSING);
+    }
+
+    @Test
+    @DisplayName("[성공] 고객의 바우처를 JDBC 저장소와 같은 순서로 나누어 조회할 수 있다.")
+    void findVoucherPageByCustomerIdTest() {
+        //given
+        List<Voucher> vouchers = IntStream.range(0, 4)
+                .mapToObj(i -> memoryVoucherRepository.insert(VoucherFactory.createVoucher(VoucherType.FIXED, 1000)))
+                .sorted(Comparator.comparing(Voucher::getVoucherId, UuidStorage.ORDER))
+                .toList();
+        vouchers.forEach(voucher -> memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId()));
+        //when
+        List<Voucher> firstPage = memoryWalletRepository.findVoucherPageByCustomerId(customer.getCustomerId(), null, 3);
+        List<Voucher> secondPage = memoryWalletRepository.findVoucherPageByCustomerId(
+                customer.getCustomerId(), firstPage.get(2).getVoucherId(), 3);
+        //then
+        assertThat(firstPage).containsExactlyElementsOf(vouchers.subList(0, 3));
+        assertThat(secondPage).containsExactly(vouchers.get(3));
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 바우처를 여러 스레드가 동시에 사용해도 한 요청만 성공한다.")
+    void concurrentRedeemTest() throws InterruptedException {
+        //given
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger alreadyUsed = new AtomicInteger();
+        //when
+        for (int i = 0; i < 200; i++) {
+            String key = "order-" + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                switch (memoryWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), key)) {
+                    case REDEEMED -> redeemed.incrementAndGet();
+                    case ALREADY_USED -> alreadyUsed.incrementAndGet();
+                    case MISSING -> throw new IllegalStateException();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        //then
+        assertThat(redeemed).hasValue(1);
+        assertThat(alreadyUsed).hasValue(199);
+    }
+
+    @Test
+    @DisplayName("[성공] 지갑에서 뺐다가 다시 넣은 바우처는 다시 사용할 수 있다.")
+    void redeemAfterReassignTest() {
+        //given
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        memoryWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), null);
+        //when
+        RedeemResult usedAgain = memoryWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), null);
+        memoryWalletRepository.deleteVoucher(voucher.getVoucherId());
+        RedeemResult notInWallet = memoryWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), null);
+        memoryWalletRepository.insertToWallet(customer.getCustomerId(), voucher.getVoucherId());
+        RedeemResult reassigned = memoryWalletRepository.redeem(customer.getCustomerId(), voucher.getVoucherId(), null);
+        //then
+        assertThat(usedAgain).isEqualTo(RedeemResult.ALREADY_USED);
+        assertThat(notInWallet).isEqualTo(RedeemResult.MISSING);
+        assertThat(reassigned).isEqualTo(RedeemResult.REDEEMED);
+    }
+}
@@ -0,0 +1,150 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataAlreadyExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.VersionConflictException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.R2dbcVoucherRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+class R2dbcVoucherRepositoryTest {
+
+    private static final ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///r2dbc-voucher;DB_CLOSE_DELAY=-1");
+
+    private final DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+    private final R2dbcVoucherRepository r2dbcVoucherRepository = new R2dbcVoucherRepository(databaseClient);
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        databaseClient.sql("DELETE FROM vouchers").then().block();
+    }
+
+    @Test
+    @DisplayName("[성공] 바우처를 저장하고 조회할 수 있다.")
+    void insertAndFindByIdTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.insert(voucher)
+                        .then(r2dbcVoucherRepository.findById(voucher.getVoucherId())))
+                .expectNext(voucher)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 있는 바우처는 저장할 수 없다.")
+    void insertDuplicatedVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        r2dbcVoucherRepository.insert(voucher).block();
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.insert(voucher))
+                .expectError(DataAlreadyExistException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 바우처를 조회하면 빈 결과가 나온다.")
+    void findByNotExistVoucherIdTest() {
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.findById(UUID.randomUUID()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("[성공] 전체 조회는 요청한 개수만큼만 받고 중간에 취소할 수 있다.")
+    void findAllWithBackpressureTest() {
+        //given
+        Flux.range(0, 5)
+                .map(i -> VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10 + i))
+                .concatMap(r2dbcVoucherRepository::insert)
+                .blockLast();
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.findAll(), 2)
+                .expectNextCount(2)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("[성공] 타입으로 바우처를 조회할 수 있다.")
+    void findByTypeTest() {
+        //given
+        Voucher fixedVoucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        Voucher percentVoucher = VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10);
+        r2dbcVoucherRepository.insert(fixedVoucher).then(r2dbcVoucherRepository.insert(percentVoucher)).block();
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.findByType(VoucherType.PERCENT))
+                .expectNext(percentVoucher)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("[성공] 읽은 version 그대로일 때 수정하면 version이 1 올라간다.")
+    void updateVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        r2dbcVoucherRepository.insert(voucher).block();
+        Voucher newVoucher = VoucherFactory.createVoucher(VoucherType.PERCENT, voucher.getVoucherId(), 20, 0);
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.update(newVoucher))
+                .expectNextMatches(updated -> updated.getVersion() == 1 && updated.getDiscount() == 20)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("[실패] 그 사이 바뀐 바우처를 예전 version으로 수정하면 충돌한다.")
+    void updateStaleVersionTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        r2dbcVoucherRepository.insert(voucher).block();
+        r2dbcVoucherRepository.update(VoucherFactory.createVoucher(VoucherType.FIXED, voucher.getVoucherId(), 2000, 0)).block();
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.update(VoucherFactory.createVoucher(VoucherType.FIXED, voucher.getVoucherId(), 3000, 0)))
+                .expectError(VersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 바우처는 수정하거나 삭제할 수 없다.")
+    void updateAndDeleteNotExistVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.update(voucher))
+                .expectError(DataNotExistException.class)
+                .verify();
+        StepVerifier.create(r2dbcVoucherRepository.deleteById(voucher.getVoucherId()))
+                .expectError(DataNotExistException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("[성공] 바우처를 삭제할 수 있다.")
+    void deleteVoucherTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        r2dbcVoucherRepository.insert(voucher).block();
+        //when & then
+        StepVerifier.create(r2dbcVoucherRepository.deleteById(voucher.getVoucherId())
+                        .then(r2dbcVoucherRepository.findById(voucher.getVoucherId())))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,140 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.repository;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.CachingConfig;
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.TestDataSourceConfig;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static com.programmers.kwonjoosung.springbootbasicjoosung.config.CachingConfig.VOUCHER_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig
+@Import({TestDataSourceConfig.class, CachingConfig.class, VoucherCacheTest.CacheManagerConfig.class})
+@Transactional
+class VoucherCacheTest {
+
+    @Autowired
+    private VoucherRepository voucherRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HookedCaffeineCacheManager hookedCacheManager;
+
+    static class CacheManagerConfig {
+        @Bean
+        public HookedCaffeineCacheManager cacheManager() {
+            return new HookedCaffeineCacheManager();
+        }
+    }
+
+    // 캐시에서 지운 직후에 한 번 실행할 작업을 걸어 둘 수 있다. (지우기와 UPDATE 사이에 끼어드는 조회 재현용)
+    static class HookedCaffeineCacheManager extends CaffeineCacheManager {
+        private Runnable afterEvict;
+
+        HookedCaffeineCacheManager() {
+            super(VOUCHER_CACHE);
+        }
+
+        void runAfterNextEvict(Runnable afterEvict) {
+            this.afterEvict = afterEvict;
+        }
+
+        @Override
+        protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+            return new CaffeineCache(name, cache, isAllowNullValues()) {
+                @Override
+                public void evict(Object key) {
+                    super.evict(key);
+                    runAfterEvict();
+                }
+
+                @Override
+                public boolean evictIfPresent(Object key) {
+                    boolean evicted = super.evictIfPresent(key);
+                    runAfterEvict();
+                    return evicted;
+                }
+            };
+        }
+
+        private void runAfterEvict() {
+            Runnable hook = afterEvict;
+            afterEvict = null;
+            if (hook != null) {
+                hook.run();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 한 번 조회한 바우처는 DB를 거치지 않고 캐시에서 조회된다.")
+    void findByIdFromCacheTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        voucherRepository.insert(voucher);
+        voucherRepository.findById(voucher.getVoucherId());
+        //when
+        deleteDirectly(voucher.getVoucherId());
+        //then
+        assertThat(voucherRepository.findById(voucher.getVoucherId())).contains(voucher);
+    }
+
+    @Test
+    @DisplayName("[성공] 바우처를 수정하거나 삭제하면 캐시에서 제거된다.")
+    void evictOnUpdateAndDeleteTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        voucherRepository.insert(voucher);
+        voucherRepository.findById(voucher.getVoucherId());
+        Voucher newVoucher = VoucherFactory.createVoucher(VoucherType.PERCENT, voucher.getVoucherId(), 10);
+        //when
+        voucherRepository.update(newVoucher);
+        //then
+        assertThat(voucherRepository.findById(voucher.getVoucherId())).contains(newVoucher);
+        voucherRepository.deleteById(voucher.getVoucherId());
+        assertThat(cacheManager.getCache(VOUCHER_CACHE).get(voucher.getVoucherId())).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 수정 도중 예전 바우처가 다시 캐시되어도 수정이 끝나면 새 바우처를 조회한다.")
+    void evictAfterUpdateTest() {
+        //given
+        Voucher voucher = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        voucherRepository.insert(voucher);
+        Voucher newVoucher = VoucherFactory.createVoucher(VoucherType.FIXED, voucher.getVoucherId(), 2000);
+        hookedCacheManager.runAfterNextEvict(() -> voucherRepository.findById(voucher.getVoucherId())); // UPDATE 전에 예전 row를 캐시
+        //when
+        Voucher updated = voucherRepository.update(newVoucher);
+        //then
+        Voucher found = voucherRepository.findById(voucher.getVoucherId()).orElseThrow();
+        assertThat(found).isEqualTo(updated);
+        assertThat(found.getVersion()).isEqualTo(updated.getVersion());
+    }
+
+    private void deleteDirectly(UUID voucherId) {
+        jdbcTemplate.update("DELETE FROM vouchers WHERE voucher_id = :voucher_id",
+                new MapSqlParameterSource("voucher_id", voucherId.toString()));
+    }
+}
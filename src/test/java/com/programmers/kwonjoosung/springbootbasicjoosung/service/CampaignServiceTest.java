@@ -0,0 +1,72 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.service;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.config.CampaignProperties;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateCampaignRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.CampaignStatusDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.OutOfRangeException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.campaign.CampaignStatus;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class CampaignServiceTest {
+
+    private final VoucherRepository voucherRepositoryMock = mock(VoucherRepository.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CampaignService campaignService = new CampaignService(voucherRepositoryMock, properties(), executor, Executors.newSingleThreadExecutor());
+
+    private static CampaignProperties properties() {
+        CampaignProperties properties = new CampaignProperties();
+        properties.setBatchSize(1000);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("[성공] 캠페인을 시작하면 batch 단위로 바우처를 발급하고 진행 상태를 조회할 수 있다.")
+    void startCampaignTest() throws InterruptedException {
+        //given
+        when(voucherRepositoryMock.insertAll(anyCollection())).thenReturn(List.of());
+        //when
+        CampaignStatusDto started = campaignService.startCampaign(new CreateCampaignRequest(VoucherType.FIXED.name(), 1000, 2500));
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        CampaignStatusDto finished = campaignService.findCampaign(UUID.fromString(started.getJobId()));
+        //then
+        verify(voucherRepositoryMock, times(3)).insertAll(anyCollection());
+        assertThat(finished.getStatus()).isEqualTo(CampaignStatus.COMPLETED.name());
+        assertThat(finished.getIssuedCount()).isEqualTo(2500);
+    }
+
+    @Test
+    @DisplayName("[실패] 발급 중 Error가 나도 캠페인은 실패 상태로 끝난다.")
+    void campaignFailsOnErrorTest() throws InterruptedException {
+        //given
+        when(voucherRepositoryMock.insertAll(anyCollection())).thenThrow(new OutOfMemoryError("test"));
+        //when
+        CampaignStatusDto started = campaignService.startCampaign(new CreateCampaignRequest(VoucherType.FIXED.name(), 1000, 10));
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        CampaignStatusDto finished = campaignService.findCampaign(UUID.fromString(started.getJobId()));
+        //then
+        assertThat(finished.getStatus()).isEqualTo(CampaignStatus.FAILED.name());
+    }
+
+    @Test
+    @DisplayName("[실패] 할인 범위를 벗어나면 캠페인을 시작할 수 없다.")
+    void startCampaignWithOutOfRangeDiscountTest() {
+        assertThatThrownBy(() -> campaignService.startCampaign(new CreateCampaignRequest(VoucherType.PERCENT.name(), 1000, 10)))
+                .isInstanceOf(OutOfRangeException.class);
+        verifyNoInteractions(voucherRepositoryMock);
+    }
+}
@@ -1,5 +1,8 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.CustomerDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.BatchGetCustomerResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.customer.response.CustomerPageDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.customer.CustomerRepository;
 
@@ -12,6 +15,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 public class CustomerServiceTest {
@@ -88,4 +92,44 @@ public class CustomerServiceTest {
         verify(customerRepositoryMock).delete(customerId);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 고객 페이지 조회 시 1개를 더 조회해서 다음 페이지 cursor를 만든다.")
+    void getCustomerPageTest() {
+        //given
+        List<Customer> customers = List.of(new Customer("a"), new Customer("b"), new Customer("c"));
+        when(customerRepositoryMock.findPage(null, 3)).thenReturn(customers);
+        //when
+        CustomerPageDto page = customerService.getCustomerPage(null, 2);
+        //then
+        assertThat(page.getCustomers()).hasSize(2);
+        assertThat(page.getNextCursor()).isEqualTo(customers.get(1).getCustomerId().toString());
+    }
+
+    @Test
+    @DisplayName("[성공] 빈 이름으로 검색하면 저장소를 조회하지 않고 빈 결과를 돌려준다.")
+    void searchBlankNameTest() {
+        //when
+        List<CustomerDto> customers = customerService.searchCustomers(" ", 10);
+        //then
+        assertThat(customers).isEmpty();
+        verify(customerRepositoryMock, never()).findByNamePrefix(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 고객을 한 번에 조회하면 요청한 순서대로 돌려주고 없는 id는 따로 알려준다.")
+    void findCustomersTest() {
+        //given
+        Customer first = new Customer(UUID.randomUUID(), "first");
+        Customer second = new Customer(UUID.randomUUID(), "second");
+        UUID missingId = UUID.randomUUID();
+        List<UUID> customerIds = List.of(second.getCustomerId(), missingId, first.getCustomerId(), second.getCustomerId());
+        when(customerRepositoryMock.findAllById(customerIds)).thenReturn(List.of(first, second));
+        //when
+        BatchGetCustomerResponse response = customerService.findCustomers(customerIds);
+        //then
+        verify(customerRepositoryMock, times(1)).findAllById(customerIds);
+        assertThat(response.getCustomers()).extracting(CustomerDto::getName).containsExactly("second", "first");
+        assertThat(response.getMissingCustomerIds()).containsExactly(missingId.toString());
+    }
+}
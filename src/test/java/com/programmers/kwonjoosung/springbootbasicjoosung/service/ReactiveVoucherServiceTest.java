@@ -0,0 +1,70 @@
+package com.programmers.kwonjoosung.springbootbasicjoosung.service;
+
+import com.programmers.kwonjoosung.springbootbasicjoosung.exception.DataNotExistException;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.ReactiveVoucherRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveVoucherServiceTest {
+
+    private final ReactiveVoucherRepository voucherRepositoryMock = Mockito.mock(ReactiveVoucherRepository.class);
+    private final ReactiveVoucherService voucherService = new ReactiveVoucherService(voucherRepositoryMock);
+
+    @Test
+    @DisplayName("[실패] 없는 바우처를 조회하면 DataNotExistException 신호가 온다.")
+    void findNotExistVoucherTest() {
+        //given
+        UUID voucherId = UUID.randomUUID();
+        when(voucherRepositoryMock.findById(voucherId)).thenReturn(Mono.empty());
+        //when & then
+        StepVerifier.create(voucherService.findVoucher(voucherId))
+                .expectError(DataNotExistException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("[성공] 기대 version 없이 수정하면 지금 읽은 version으로 수정한다.")
+    void updateVoucherWithCurrentVersionTest() {
+        //given
+        UUID voucherId = UUID.randomUUID();
+        Voucher current = VoucherFactory.createVoucher(VoucherType.FIXED, voucherId, 1000, 3);
+        Voucher updated = VoucherFactory.createVoucher(VoucherType.FIXED, voucherId, 2000, 4);
+        when(voucherRepositoryMock.findById(voucherId)).thenReturn(Mono.just(current));
+        when(voucherRepositoryMock.update(any())).thenReturn(Mono.just(updated));
+        //when & then
+        StepVerifier.create(voucherService.updateVoucher(voucherId, VoucherType.FIXED, 2000))
+                .expectNextMatches(voucher -> voucher.getVersion() == 4 && voucher.getDiscount() == 2000)
+                .verifyComplete();
+        ArgumentCaptor<Voucher> captor = ArgumentCaptor.forClass(Voucher.class);
+        verify(voucherRepositoryMock).update(captor.capture());
+        assertThat(captor.getValue().getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 바우처는 수정하지 않는다.")
+    void updateNotExistVoucherTest() {
+        //given
+        UUID voucherId = UUID.randomUUID();
+        when(voucherRepositoryMock.findById(voucherId)).thenReturn(Mono.empty());
+        //when & then
+        StepVerifier.create(voucherService.updateVoucher(voucherId, VoucherType.FIXED, 2000))
+                .expectError(DataNotExistException.class)
+                .verify();
+        verify(voucherRepositoryMock, never()).update(any());
+    }
+}
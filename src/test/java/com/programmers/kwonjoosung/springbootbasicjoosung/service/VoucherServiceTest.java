@@ -1,20 +1,32 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
 import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.CreateVoucherRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.PriceBatchRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.request.VoucherSearchRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.BulkCreateVoucherResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.PriceBatchResponse;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
 import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSearchCondition;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.voucher.VoucherSortOrder;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class VoucherServiceTest {
@@ -39,6 +51,45 @@ class VoucherServiceTest {
         verify(voucherRepositoryMock).insert(voucher);
     }
 
+    @Test
+    @DisplayName("[성공] 여러 바우처를 한 번에 생성하고 저장하는 기능을 테스트 한다")
+    void saveVouchersTest() {
+        //given
+        List<CreateVoucherRequest> requests = List.of(
+                new CreateVoucherRequest(VoucherType.FIXED.name(), 1000),
+                new CreateVoucherRequest(VoucherType.PERCENT.name(), 10));
+        when(voucherRepositoryMock.insertAll(anyCollection())).thenReturn(List.of());
+        //when
+        BulkCreateVoucherResponse response = voucherService.saveVouchers(requests);
+        //then
+        verify(voucherRepositoryMock).insertAll(anyCollection());
+        assertThat(response.getCreated()).hasSize(2);
+        assertThat(response.getFailedVoucherIds()).isEmpty();
+        assertThat(response.getInvalidRequestIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장하지 못한 바우처와 잘못된 요청은 전체를 실패시키지 않고 따로 돌려준다.")
+    void saveVouchersWithFailuresTest() {
+        //given
+        List<CreateVoucherRequest> requests = List.of(
+                new CreateVoucherRequest(VoucherType.FIXED.name(), 1000),
+                new CreateVoucherRequest("WRONG", 1000),
+                new CreateVoucherRequest(VoucherType.PERCENT.name(), 10),
+                new CreateVoucherRequest(VoucherType.PERCENT.name(), 1000));
+        when(voucherRepositoryMock.insertAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Voucher> vouchers = invocation.getArgument(0);
+            return List.of(vouchers.iterator().next().getVoucherId()); // 첫 번째 바우처만 저장 실패
+        });
+        //when
+        BulkCreateVoucherResponse response = voucherService.saveVouchers(requests);
+        //then
+        assertThat(response.getCreated()).extracting(VoucherDto::getVoucherType).containsExactly(VoucherType.PERCENT.name());
+        assertThat(response.getFailedVoucherIds()).hasSize(1);
+        assertThat(response.getCreated()).extracting(VoucherDto::getVoucherId).doesNotContainAnyElementsOf(response.getFailedVoucherIds());
+        assertThat(response.getInvalidRequestIndexes()).containsExactly(1, 3);
+    }
+
     @Test
     @DisplayName("[성공] 바우처id를 통해 바우처 정보를 조회하는 기능을 테스트 한다")
     void findVoucherByVoucherId() {
@@ -67,17 +118,33 @@ class VoucherServiceTest {
         verify(voucherRepositoryMock).findAll();
     }
 
+    @Test
+    @DisplayName("[성공] 다음 페이지가 있으면 마지막 바우처id를 다음 커서로 반환한다.")
+    void getVoucherPage() {
+        //given
+        Voucher voucher1 = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
+        Voucher voucher2 = VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10);
+        when(voucherRepositoryMock.findPage(null, 2)).thenReturn(List.of(voucher1, voucher2));
+        //when
+        VoucherPageDto page = voucherService.getVoucherPage(null, 1);
+        //then
+        verify(voucherRepositoryMock).findPage(null, 2);
+        assertThat(page.getVouchers()).hasSize(1);
+        assertThat(page.getNextCursor()).isEqualTo(voucher1.getVoucherId().toString());
+    }
+
     @Test
     @DisplayName("[성공] 바우처 테이블에 존재하는 바우처는 수정하는 기능을 테스트 한다.")
     void updateVoucherInfo() {
         //given
         UUID voucherId = UUID.randomUUID();
         Voucher voucher = VoucherFactory.createVoucher(VoucherType.PERCENT, voucherId, 30);
+        when(voucherRepositoryMock.findById(voucherId)).thenReturn(Optional.of(voucher));
         when(voucherRepositoryMock.update(voucher)).thenReturn(voucher);
         //when
 
         try (MockedStatic<VoucherFactory> utilities = mockStatic(VoucherFactory.class)) {
-            utilities.when(() -> VoucherFactory.createVoucher(VoucherType.FIXED,voucherId, 1000)).thenReturn(voucher);
+            utilities.when(() -> VoucherFactory.createVoucher(VoucherType.FIXED, voucherId, 1000, voucher.getVersion())).thenReturn(voucher);
             voucherService.updateVoucher(voucher.getVoucherId(), VoucherType.FIXED, 1000);
         }
         //then
@@ -95,4 +162,65 @@ class VoucherServiceTest {
         verify(voucherRepositoryMock).deleteById(voucherId);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 검색 요청의 빈 값은 기본값(할인 오름차순, 100개)으로, 큰 limit은 최대값으로 바꿔서 검색한다.")
+    void searchVouchersTest() {
+        //given
+        when(voucherRepositoryMock.search(any())).thenReturn(List.of());
+        ArgumentCaptor<VoucherSearchCondition> captor = ArgumentCaptor.forClass(VoucherSearchCondition.class);
+        //when
+        voucherService.searchVouchers(new VoucherSearchRequest("fixed", 1000L, null, null, null));
+        voucherService.searchVouchers(new VoucherSearchRequest(null, null, null, "discount_desc", 100_000));
+        //then
+        verify(voucherRepositoryMock, times(2)).search(captor.capture());
+        VoucherSearchCondition defaults = captor.getAllValues().get(0);
+        assertThat(defaults.getVoucherType()).isEqualTo(VoucherType.FIXED);
+        assertThat(defaults.getMinDiscount()).isEqualTo(1000L);
+        assertThat(defaults.getSortOrder()).isEqualTo(VoucherSortOrder.DISCOUNT_ASC);
+        assertThat(defaults.getLimit()).isEqualTo(100);
+        VoucherSearchCondition capped = captor.getAllValues().get(1);
+        assertThat(capped.getSortOrder()).isEqualTo(VoucherSortOrder.DISCOUNT_DESC);
+        assertThat(capped.getLimit()).isEqualTo(VoucherService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("[실패] 알 수 없는 정렬 순서로는 검색할 수 없다.")
+    void searchVouchersWithUnknownSortTest() {
+        VoucherSearchRequest request = new VoucherSearchRequest(null, null, null, "price_desc", null);
+        assertThatThrownBy(() -> voucherService.searchVouchers(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(voucherRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 (바우처, 금액) 쌍의 할인 후 금액을 한 번의 조회로 계산한다.")
+    void priceVouchersTest() {
+        //given
+        Voucher fixed = VoucherFactory.createVoucher(VoucherType.FIXED, 3000);
+        Voucher percent = VoucherFactory.createVoucher(VoucherType.PERCENT, 15);
+        UUID missingId = UUID.randomUUID();
+        when(voucherRepositoryMock.findAllById(anyCollection())).thenReturn(List.of(fixed, percent));
+        PriceBatchRequest request = new PriceBatchRequest(
+                new UUID[]{fixed.getVoucherId(), fixed.getVoucherId(), percent.getVoucherId(), missingId},
+                new long[]{10_000, 1_000, 9_999, 5_000});
+        //when
+        PriceBatchResponse response = voucherService.priceVouchers(request);
+        //then
+        verify(voucherRepositoryMock, times(1)).findAllById(anyCollection());
+        assertThat(response.getFinalAmounts()).containsExactly(7_000, 0, 8_500, 5_000);
+        assertThat(response.getDiscountAmounts()).containsExactly(3_000, 1_000, 1_499, 0);
+        assertThat(response.getMissingVoucherIds()).containsExactly(missingId.toString());
+    }
+
+    @Test
+    @DisplayName("[실패] 바우처id와 금액의 개수가 다르면 계산하지 않는다.")
+    void priceVouchersWithWrongLengthTest() {
+        //given
+        PriceBatchRequest request = new PriceBatchRequest(new UUID[]{UUID.randomUUID()}, new long[]{1000, 2000});
+        //when & then
+        assertThatThrownBy(() -> voucherService.priceVouchers(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(voucherRepositoryMock, never()).findAllById(anyCollection());
+    }
+}
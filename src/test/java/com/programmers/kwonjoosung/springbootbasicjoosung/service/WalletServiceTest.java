@@ -1,22 +1,29 @@
 package com.programmers.kwonjoosung.springbootbasicjoosung.service;
 
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.voucher.response.VoucherPageDto;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.request.AssignWalletRequest;
+import com.programmers.kwonjoosung.springbootbasicjoosung.controller.wallet.response.AssignWalletResultDto;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.customer.Customer;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.Voucher;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherFactory;
 import com.programmers.kwonjoosung.springbootbasicjoosung.model.voucher.VoucherType;
-import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.JdbcWalletRepository;
+import com.programmers.kwonjoosung.springbootbasicjoosung.model.wallet.AssignResult;
+import com.programmers.kwonjoosung.springbootbasicjoosung.repository.wallet.WalletRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class WalletServiceTest {
 
-    private final JdbcWalletRepository jdbcWalletRepositoryMock = mock(JdbcWalletRepository.class);
-    private final WalletService walletService = new WalletService(jdbcWalletRepositoryMock);
+    private final WalletRepository walletRepositoryMock = mock(WalletRepository.class);
+    private final WalletService walletService = new WalletService(walletRepositoryMock);
 
     @Test
     @DisplayName("[성공] 지갑에 바우처를 할당하는 기능을 테스트 한다.")
@@ -27,7 +34,7 @@ class WalletServiceTest {
         //when
         walletService.insertToWallet(customerId, voucherId);
         //then
-        verify(jdbcWalletRepositoryMock).insertToWallet(customerId, voucherId);
+        verify(walletRepositoryMock).insertToWallet(customerId, voucherId);
     }
 
 
@@ -39,7 +46,7 @@ class WalletServiceTest {
         //when
         walletService.deleteVoucherFromWallet(voucherId);
         //then
-        verify(jdbcWalletRepositoryMock).deleteVoucher(voucherId);
+        verify(walletRepositoryMock).deleteVoucher(voucherId);
     }
 
     @Test
@@ -48,11 +55,11 @@ class WalletServiceTest {
         //given
         Customer customer = new Customer(UUID.randomUUID(), "test2");
         UUID voucherId = UUID.randomUUID();
-        when(jdbcWalletRepositoryMock.findCustomerByVoucherId(voucherId)).thenReturn(customer);
+        when(walletRepositoryMock.findCustomerByVoucherId(voucherId)).thenReturn(customer);
         //when
         walletService.findCustomerByVoucherId(voucherId);
         //then
-        verify(jdbcWalletRepositoryMock).findCustomerByVoucherId(voucherId);
+        verify(walletRepositoryMock).findCustomerByVoucherId(voucherId);
     }
 
     @Test
@@ -62,12 +69,75 @@ class WalletServiceTest {
         Customer customer = new Customer(UUID.randomUUID(), "test3");
         Voucher voucher1 = VoucherFactory.createVoucher(VoucherType.FIXED, UUID.randomUUID(), 1000);
         Voucher voucher2 = VoucherFactory.createVoucher(VoucherType.PERCENT, UUID.randomUUID(), 10);
-        when(jdbcWalletRepositoryMock.findVouchersByCustomerId(customer.getCustomerId()))
+        when(walletRepositoryMock.findVouchersByCustomerId(customer.getCustomerId()))
                 .thenReturn(List.of(voucher1, voucher2));
         //when
         walletService.findWalletByCustomerId(customer.getCustomerId());
         //then
-        verify(jdbcWalletRepositoryMock).findVouchersByCustomerId(customer.getCustomerId());
+        verify(walletRepositoryMock).findVouchersByCustomerId(customer.getCustomerId());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 여러 쌍을 한 번에 할당하면 요청 순서대로 결과를 돌려준다.")
+    void insertAllToWalletTest() {
+        //given
+        String customerId = UUID.randomUUID().toString();
+        List<AssignWalletRequest> requests = List.of(
+                new AssignWalletRequest(customerId, UUID.randomUUID().toString()),
+                new AssignWalletRequest(customerId, UUID.randomUUID().toString()));
+        when(walletRepositoryMock.insertAllToWallet(anyList())).thenReturn(List.of(AssignResult.OK, AssignResult.MISSING));
+        //when
+        List<AssignWalletResultDto> results = walletService.insertAllToWallet(requests);
+        //then
+        assertThat(results).extracting(AssignWalletResultDto::getVoucherId)
+                .containsExactly(requests.get(0).getVoucherId(), requests.get(1).getVoucherId());
+        assertThat(results).extracting(AssignWalletResultDto::getResult)
+                .containsExactly(AssignResult.OK, AssignResult.MISSING);
+    }
+
+    @Test
+    @DisplayName("[성공] id 형식이 잘못된 쌍은 INVALID로 돌려주고 나머지 쌍만 할당한다.")
+    void insertAllToWalletWithInvalidIdTest() {
+        //given
+        String customerId = UUID.randomUUID().toString();
+        List<AssignWalletRequest> requests = List.of(
+                new AssignWalletRequest(customerId, "not-a-uuid"),
+                new AssignWalletRequest(customerId, UUID.randomUUID().toString()));
+        when(walletRepositoryMock.insertAllToWallet(anyList())).thenReturn(List.of(AssignResult.OK));
+        //when
+        List<AssignWalletResultDto> results = walletService.insertAllToWallet(requests);
+        //then
+        verify(walletRepositoryMock).insertAllToWallet(argThat(entries -> entries.size() == 1
+                && entries.get(0).getVoucherId().toString().equals(requests.get(1).getVoucherId())));
+        assertThat(results).extracting(AssignWalletResultDto::getResult)
+                .containsExactly(AssignResult.INVALID, AssignResult.OK);
+    }
+
+    @Test
+    @DisplayName("[실패] 최대 개수를 넘는 쌍은 한 번에 할당할 수 없다.")
+    void insertAllToWalletOverMaxBatchSizeTest() {
+        List<AssignWalletRequest> requests = Collections.nCopies(WalletService.MAX_BATCH_SIZE + 1,
+                new AssignWalletRequest(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        assertThatThrownBy(() -> walletService.insertAllToWallet(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(walletRepositoryMock);
+    }
+
+    @Test
+    @DisplayName("[성공] 지갑 페이지 조회 시 1개를 더 조회해서 다음 페이지 cursor를 만든다.")
+    void getWalletPageTest() {
+        //given
+        UUID customerId = UUID.randomUUID();
+        List<Voucher> vouchers = List.of(
+                VoucherFactory.createVoucher(VoucherType.FIXED, 1000),
+                VoucherFactory.createVoucher(VoucherType.FIXED, 2000),
+                VoucherFactory.createVoucher(VoucherType.PERCENT, 10));
+        when(walletRepositoryMock.findVoucherPageByCustomerId(customerId, null, 3)).thenReturn(vouchers);
+        //when
+        VoucherPageDto page = walletService.getWalletPage(customerId, null, 2);
+        //then
+        assertThat(page.getVouchers()).hasSize(2);
+        assertThat(page.getNextCursor()).isEqualTo(vouchers.get(1).getVoucherId().toString());
+    }
+}
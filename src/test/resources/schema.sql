@@ -2,19 +2,25 @@ CREATE TABLE IF NOT EXISTS vouchers
 (
     voucher_id varchar(255) PRIMARY KEY,
     voucher_type varchar(255) not null ,
-    discount bigint not null
+    discount bigint not null,
+    version bigint not null default 0 -- 수정할 때마다 +1 (낙관적 락)
 );
+CREATE INDEX IF NOT EXISTS idx_vouchers_type_discount ON vouchers (voucher_type, discount); -- 타입 + 할인 범위 검색
 
 CREATE TABLE IF NOT EXISTS customers
 (
     customer_id varchar(255) PRIMARY KEY,
     name varchar(255) not null
 );
+CREATE INDEX IF NOT EXISTS idx_customers_name ON customers (name, customer_id); -- 이름 prefix 검색
 CREATE TABLE IF NOT EXISTS wallets
 (
     customer_id varchar(255) not null,
     voucher_id varchar(255) not null,
+    used boolean not null default false, -- redeem으로 사용 처리됨
+    idempotency_key varchar(64), -- 처음 사용 처리한 요청의 key (같은 key 재시도는 성공으로 본다)
     PRIMARY KEY(customer_id, voucher_id),
-    FOREIGN KEY (customer_id) REFERENCES customers(customer_id) ON DELETE CASCADE ON UPDATE CASCADE,
-    FOREIGN KEY (voucher_id) REFERENCES vouchers(voucher_id) ON DELETE CASCADE ON UPDATE CASCADE
+    CONSTRAINT uk_wallets_voucher_id UNIQUE (voucher_id), -- 바우처는 한 지갑에만 들어간다 (voucher_id 조회/삭제용 인덱스)
+    CONSTRAINT fk_wallets_customer_id FOREIGN KEY (customer_id) REFERENCES customers(customer_id) ON DELETE CASCADE ON UPDATE CASCADE,
+    CONSTRAINT fk_wallets_voucher_id FOREIGN KEY (voucher_id) REFERENCES vouchers(voucher_id) ON DELETE CASCADE ON UPDATE CASCADE
 );
\ No newline at end of file